@@ -0,0 +1,101 @@
+// Carga mixta con E/S bloqueante: lecturas que van a Postgres y registros que hacen BCrypt,
+// escriben en Postgres y disparan el correo de bienvenida (@Async) por SMTP.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE === 'true' ? 'virtual' : 'platform';
+const VUS = Number(__ENV.VUS || 300);
+const DURATION = __ENV.DURATION || '2m';
+const SEED_POSTS = 50;
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-vus',
+            exec: 'reads',
+            vus: VUS,
+            duration: DURATION,
+        },
+        signups: {
+            executor: 'constant-vus',
+            exec: 'signups',
+            vus: Math.max(1, Math.floor(VUS / 10)),
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // Umbrales triviales en duración: obligan a k6 a calcular las submétricas por escenario
+    thresholds: {
+        'http_req_failed{scenario:reads}': ['rate<0.01'],
+        'http_req_failed{scenario:signups}': ['rate<0.01'],
+        'http_req_duration{scenario:reads}': ['p(99)>=0'],
+        'http_req_duration{scenario:signups}': ['p(99)>=0'],
+    },
+};
+
+export function setup() {
+    const login = http.post(`${BASE_URL}/api/v1/auth/login`,
+        JSON.stringify({ email: 'admin@test.com', password: 'adminpassword' }), JSON_HEADERS);
+    const auth = {
+        headers: {
+            'Content-Type': 'application/json',
+            Authorization: `Bearer ${login.json('accessToken')}`,
+        },
+    };
+
+    http.post(`${BASE_URL}/api/v1/categories`, JSON.stringify({ name: 'Load Test' }), auth);
+    const category = http.get(`${BASE_URL}/api/v1/categories`).json().find((c) => c.name === 'Load Test');
+
+    const postIds = [];
+    for (let i = 0; i < SEED_POSTS; i++) {
+        const created = http.post(`${BASE_URL}/api/v1/posts`, JSON.stringify({
+            title: `Load test post ${i}`,
+            content: 'Lorem ipsum dolor sit amet, consectetur adipiscing elit. '.repeat(100),
+            categoryId: category.id,
+            tagIds: [],
+            status: 'PUBLISHED',
+        }), auth);
+        postIds.push(created.json('id'));
+    }
+    return { postIds };
+}
+
+export function reads(data) {
+    const postId = data.postIds[Math.floor(Math.random() * data.postIds.length)];
+    const post = http.get(`${BASE_URL}/api/v1/posts/${postId}`, { tags: { name: 'post' } });
+    check(post, { 'post 200': (r) => r.status === 200 });
+
+    const feed = http.get(`${BASE_URL}/api/v1/posts/feed?size=10`, { tags: { name: 'feed' } });
+    check(feed, { 'feed 200': (r) => r.status === 200 });
+}
+
+export function signups() {
+    const id = `${__VU}-${__ITER}-${Date.now()}`;
+    const res = http.post(`${BASE_URL}/api/v1/auth/register`, JSON.stringify({
+        firstName: 'Load',
+        lastName: `User ${id}`,
+        email: `load-${id}@example.test`,
+        password: 'loadtest123',
+    }), Object.assign({ tags: { name: 'register' } }, JSON_HEADERS));
+    check(res, { 'register 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    const metric = (name) => data.metrics[name] ? data.metrics[name].values : {};
+    const row = (scenario) => {
+        const duration = metric(`http_req_duration{scenario:${scenario}}`);
+        return `${MODE.padEnd(9)} ${scenario.padEnd(8)} p50=${(duration['p(50)'] || 0).toFixed(1)}ms `
+            + `p99=${(duration['p(99)'] || 0).toFixed(1)}ms max=${(duration.max || 0).toFixed(1)}ms`;
+    };
+    return {
+        [`results/${MODE}.json`]: JSON.stringify(data, null, 2),
+        stdout: [
+            `${MODE.padEnd(9)} throughput=${metric('http_reqs').rate.toFixed(1)} req/s`,
+            row('reads'),
+            row('signups'),
+            '',
+        ].join('\n'),
+    };
+}
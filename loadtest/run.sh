@@ -0,0 +1,28 @@
+#!/usr/bin/env sh
+# Compara hilos de plataforma y virtuales con la misma latencia inyectada en Postgres y SMTP.
+# Uso: ./run.sh [db_latency_ms] [smtp_latency_ms]
+set -eu
+cd "$(dirname "$0")"
+
+DB_LATENCY_MS=${1:-20}
+SMTP_LATENCY_MS=${2:-300}
+TOXIPROXY=http://localhost:8474
+mkdir -p results
+
+add_latency() {
+  curl -sf -X POST "$TOXIPROXY/proxies/$1/toxics" -H 'Content-Type: application/json' \
+    -d "{\"name\":\"latency\",\"type\":\"latency\",\"stream\":\"downstream\",\"attributes\":{\"latency\":$2,\"jitter\":$(($2 / 10))}}" > /dev/null
+}
+
+for mode in false true; do
+  echo "== spring.threads.virtual.enabled=$mode (db ${DB_LATENCY_MS}ms, smtp ${SMTP_LATENCY_MS}ms)"
+  VIRTUAL_THREADS=$mode docker compose up -d --build --wait app
+  until curl -sf http://localhost:8080/actuator/health > /dev/null; do sleep 2; done
+
+  add_latency postgres "$DB_LATENCY_MS"
+  add_latency smtp "$SMTP_LATENCY_MS"
+  VIRTUAL_THREADS=$mode docker compose run --rm k6 run blog.js
+  docker compose logs app | grep -c "Virtual thread pinned" || true
+
+  docker compose down -v
+done
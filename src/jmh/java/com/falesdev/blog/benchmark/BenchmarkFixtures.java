@@ -0,0 +1,73 @@
+package com.falesdev.blog.benchmark;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.entity.Category;
+import com.falesdev.blog.domain.entity.Post;
+import com.falesdev.blog.domain.entity.Role;
+import com.falesdev.blog.domain.entity.Tag;
+import com.falesdev.blog.domain.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+final class BenchmarkFixtures {
+
+    private static final String[] WORDS = {
+            "spring", "java", "blog", "post", "performance", "latency", "cache", "query",
+            "the", "a", "of", "and", "to", "in", "is", "for", "with", "on", "database", "index"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    // Texto pseudoaleatorio pero determinista, de aproximadamente el tamaño pedido
+    static String content(int sizeBytes) {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(sizeBytes + 16);
+        while (sb.length() < sizeBytes) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+            sb.append(random.nextInt(12) == 0 ? "\n\n" : " ");
+        }
+        return sb.toString();
+    }
+
+    static Post post(int contentBytes, int tagCount) {
+        Role role = Role.builder().id(UUID.randomUUID()).name("USER").build();
+        User author = User.builder()
+                .id(UUID.randomUUID())
+                .email("author@example.com")
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .roles(Set.of(role))
+                .createdAt(LocalDateTime.now())
+                .updateAt(LocalDateTime.now())
+                .build();
+        Category category = Category.builder()
+                .id(UUID.randomUUID())
+                .name("Engineering")
+                .postCount(12)
+                .build();
+
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.builder().id(UUID.randomUUID()).name("tag-" + i).build());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return Post.builder()
+                .id(UUID.randomUUID())
+                .title("Benchmarking the blog hot paths")
+                .content(content(contentBytes))
+                .status(PostStatus.PUBLISHED)
+                .readingTime(5)
+                .author(author)
+                .category(category)
+                .tags(tags)
+                .createdAt(now)
+                .updateAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.falesdev.blog.benchmark;
+
+import com.falesdev.blog.domain.entity.Role;
+import com.falesdev.blog.domain.entity.User;
+import com.falesdev.blog.security.BlogUserDetails;
+import com.falesdev.blog.service.impl.JwtServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// "legacy*" reproduce el comportamiento anterior: clave decodificada y parser construido en cada llamada
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final long EXPIRY_MS = 3600000;
+
+    private String secret;
+    private JwtServiceImpl jwtService;
+    private BlogUserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secret = Base64.getEncoder().encodeToString("benchmarkSecretKey123456789012345678901".getBytes());
+
+        jwtService = new JwtServiceImpl();
+        ReflectionTestUtils.setField(jwtService, "secretKey", secret);
+        ReflectionTestUtils.setField(jwtService, "signingKeyId", "primary");
+        ReflectionTestUtils.setField(jwtService, "verificationKeys", "");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiryMs", EXPIRY_MS);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiryMs", EXPIRY_MS * 24);
+        jwtService.init();
+
+        Role role = new Role();
+        role.setName("USER");
+        userDetails = new BlogUserDetails(User.builder()
+                .id(UUID.randomUUID())
+                .email("bench@example.com")
+                .password("password")
+                .roles(Set.of(role))
+                .build());
+        token = jwtService.generateAccessToken(userDetails);
+    }
+
+    @Benchmark
+    public String issue() {
+        return jwtService.generateAccessToken(userDetails);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtService.parseClaims(token);
+    }
+
+    @Benchmark
+    public String legacyIssue() {
+        return Jwts.builder()
+                .setSubject(userDetails.getUsername())
+                .claim("userId", userDetails.getId())
+                .claim("role", userDetails.getUser().getRoles().stream()
+                        .map(Role::getName)
+                        .collect(Collectors.toSet()))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRY_MS))
+                .signWith(legacySigningKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims legacyVerify() {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacySigningKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private Key legacySigningKey() {
+        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+    }
+}
@@ -0,0 +1,45 @@
+package com.falesdev.blog.benchmark;
+
+import com.falesdev.blog.domain.dto.PostDto;
+import com.falesdev.blog.domain.entity.Post;
+import com.falesdev.blog.mapper.PostMapper;
+import com.falesdev.blog.mapper.PostMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostMapperBenchmark {
+
+    @Param({"0", "5", "20"})
+    private int tagCount;
+
+    private PostMapper postMapper;
+    private Post post;
+
+    @Setup
+    public void setUp() {
+        postMapper = new PostMapperImpl();
+        post = BenchmarkFixtures.post(4096, tagCount);
+    }
+
+    @Benchmark
+    public PostDto toDto() {
+        return postMapper.toDto(post);
+    }
+}
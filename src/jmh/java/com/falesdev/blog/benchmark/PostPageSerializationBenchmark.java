@@ -0,0 +1,87 @@
+package com.falesdev.blog.benchmark;
+
+import com.falesdev.blog.domain.dto.PostDto;
+import com.falesdev.blog.domain.dto.PostSummaryDto;
+import com.falesdev.blog.mapper.PostMapper;
+import com.falesdev.blog.mapper.PostMapperImpl;
+import com.falesdev.blog.service.TextStatisticsService;
+import com.falesdev.blog.service.impl.TextStatisticsServiceImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Página completa (PostDto con content) frente a la forma que devuelven los listados (PostSummaryDto).
+// Se serializa PagedModel, igual que los controladores con @EnableSpringDataWebSupport(VIA_DTO)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostPageSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private PagedModel<PostDto> page;
+    private PagedModel<PostSummaryDto> summaryPage;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+
+        PostMapper postMapper = new PostMapperImpl();
+        List<PostDto> posts = IntStream.range(0, pageSize)
+                .mapToObj(i -> postMapper.toDto(BenchmarkFixtures.post(4096, 5)))
+                .toList();
+        PageRequest pageable = PageRequest.of(0, pageSize, Sort.by("createdAt").descending());
+        page = new PagedModel<>(new PageImpl<>(posts, pageable, 1000));
+
+        TextStatisticsService textStatisticsService = new TextStatisticsServiceImpl();
+        List<PostSummaryDto> summaries = posts.stream()
+                .map(post -> PostSummaryDto.builder()
+                        .id(post.getId())
+                        .title(post.getTitle())
+                        .excerpt(textStatisticsService.analyze(post.getContent()).excerpt())
+                        .author(post.getAuthor())
+                        .category(post.getCategory())
+                        .tags(post.getTags())
+                        .readingTime(post.getReadingTime())
+                        .createdAt(post.getCreatedAt())
+                        .build())
+                .toList();
+        summaryPage = new PagedModel<>(new PageImpl<>(summaries, pageable, 1000));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(summaryPage);
+    }
+}
@@ -0,0 +1,57 @@
+package com.falesdev.blog.benchmark;
+
+import com.falesdev.blog.domain.TextStatistics;
+import com.falesdev.blog.service.impl.TextStatisticsServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Ejecutar con -prof gc para comparar también las asignaciones por operación
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadingTimeBenchmark {
+
+    private static final int WORDS_PER_MINUTE = 200;
+
+    @Param({"1024", "10240", "51200"})
+    private int contentBytes;
+
+    private TextStatisticsServiceImpl textStatisticsService;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        textStatisticsService = new TextStatisticsServiceImpl();
+        content = BenchmarkFixtures.content(contentBytes);
+    }
+
+    @Benchmark
+    public int calculateReadingTime() {
+        return textStatisticsService.calculateReadingTime(content);
+    }
+
+    @Benchmark
+    public TextStatistics analyze() {
+        return textStatisticsService.analyze(content);
+    }
+
+    @Benchmark
+    public int legacyRegexSplit() {
+        int wordCount = content.trim().split("\\s+").length;
+        return (int) Math.ceil((double) wordCount / WORDS_PER_MINUTE);
+    }
+}
@@ -0,0 +1,50 @@
+package com.falesdev.blog.benchmark;
+
+import com.falesdev.blog.security.auth.RevocationBloomFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Coste por petición del filtro de revocación con 100k jti revocados; "notRevoked" es el caso habitual
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RevocationCheckBenchmark {
+
+    private RevocationBloomFilter filter;
+    private UUID revoked;
+    private UUID notRevoked;
+
+    @Setup
+    public void setUp() {
+        filter = new RevocationBloomFilter(100000, 0.001);
+        for (int i = 0; i < 100000; i++) {
+            revoked = UUID.randomUUID();
+            filter.put(revoked);
+        }
+        notRevoked = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return filter.mightContain(notRevoked);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return filter.mightContain(revoked);
+    }
+}
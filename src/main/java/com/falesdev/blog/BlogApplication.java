@@ -3,11 +3,11 @@ package com.falesdev.blog;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
-import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO) //Esto es para los Page cuando los llamas directo. Ejem: http://localhost:8080/api/v1/posts
-@EnableAsync
+@EnableScheduling
 public class BlogApplication {
 
 	public static void main(String[] args) {
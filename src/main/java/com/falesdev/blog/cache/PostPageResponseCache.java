@@ -0,0 +1,122 @@
+package com.falesdev.blog.cache;
+
+import com.falesdev.blog.event.PostChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * Páginas públicas de GET /api/v1/posts ya serializadas a JSON.
+ * El límite es en bytes (peso = tamaño de la respuesta) y Caffeine calcula cada clave una sola vez
+ * aunque lleguen muchas peticiones a la vez. Solo se invalidan las páginas del listado general y
+ * de las categorías/tags que tocó un post publicado; el TTL cubre cambios indirectos (renombrados).
+ * Cada invalidación sube la generación: una carga que empezó antes no se queda en caché, porque pudo
+ * leer la base de datos antes del commit que provocó la invalidación.
+ */
+@Slf4j
+@Component
+public class PostPageResponseCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    public record PageKey(UUID categoryId, UUID tagId, int page, int size, String sort) {
+
+        public static PageKey of(UUID categoryId, UUID tagId, Pageable pageable) {
+            return new PageKey(categoryId, tagId, pageable.getPageNumber(), pageable.getPageSize(),
+                    pageable.getSort().toString());
+        }
+    }
+
+    private final Cache<PageKey, byte[]> cache;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostPageResponseCache(
+            @Value("${blog.posts.page-cache.enabled:true}") boolean enabled,
+            @Value("${blog.posts.page-cache.max-bytes:33554432}") long maxBytes,
+            @Value("${blog.posts.page-cache.ttl-seconds:300}") long ttlSeconds,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((PageKey key, byte[] body) -> body.length + ENTRY_OVERHEAD_BYTES)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "posts.pages");
+        Gauge.builder("blog.posts.page-cache.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("Serialized bytes held by the post page cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.page-cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Hit ratio of the post page cache since startup")
+                .register(meterRegistry);
+    }
+
+    public byte[] get(PageKey key, Supplier<?> loader) {
+        if (!enabled) {
+            return serialize(loader.get());
+        }
+
+        long startGeneration = generation.get();
+        AtomicBoolean loaded = new AtomicBoolean();
+        byte[] body = cache.get(key, k -> {
+            loaded.set(true);
+            return serialize(loader.get());
+        });
+        if (loaded.get() && generation.get() != startGeneration) {
+            cache.asMap().remove(key, body);
+        }
+        return body;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        // Un borrador que sigue siendo borrador no aparece en ninguna página pública
+        if (!event.isPublished() && !event.wasPublished()) {
+            return;
+        }
+
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key ->
+                (key.categoryId() == null && key.tagId() == null)
+                        || (key.categoryId() != null && event.categoryIds().contains(key.categoryId()))
+                        || (key.tagId() != null && event.tagIds().contains(key.tagId())));
+        log.debug("Invalidated post pages for post {}", event.postId());
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
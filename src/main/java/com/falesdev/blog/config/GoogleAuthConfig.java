@@ -1,28 +1,54 @@
 package com.falesdev.blog.config;
 
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class GoogleAuthConfig {
 
-    @Value("${google.client.web.id}")
-    private String webClientId;
+    // Un solo cliente con pool para todas las llamadas a Google: conexiones TLS reutilizadas entre logins
+    @Bean(destroyMethod = "shutdown")
+    public ApacheHttpTransport googleHttpTransport(
+            @Value("${google.oauth.max-concurrent-calls:20}") int maxConnections,
+            @Value("${google.oauth.connection-ttl-ms:300000}") long connectionTtlMs,
+            @Value("${google.oauth.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${google.oauth.read-timeout-ms:3000}") int readTimeoutMs) {
+        HttpClient httpClient = ApacheHttpTransport.newDefaultHttpClientBuilder()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setConnectionTimeToLive(connectionTtlMs, TimeUnit.MILLISECONDS)
+                .evictIdleConnections(connectionTtlMs, TimeUnit.MILLISECONDS)
+                .addInterceptorLast(capTimeouts(connectTimeoutMs, readTimeoutMs))
+                .build();
+        return new ApacheHttpTransport(httpClient);
+    }
 
-    @Bean
-    public GoogleIdTokenVerifier googleIdTokenVerifier() {
-        if (webClientId == null || webClientId.isBlank()) {
-            throw new IllegalStateException("Google Web Client ID not configured");
-        }
+    /*
+     * ApacheHttpRequest pone en cada petición los timeouts de google-http-client (20 s por defecto), así que
+     * un RequestConfig por defecto en el cliente no sirve. Las peticiones que no pasan un inicializador
+     * (la descarga de certificados de GooglePublicKeysManager) se acotan aquí, antes de abrir la conexión.
+     */
+    private static HttpRequestInterceptor capTimeouts(int connectTimeoutMs, int readTimeoutMs) {
+        return (request, context) -> {
+            HttpClientContext clientContext = HttpClientContext.adapt(context);
+            RequestConfig config = clientContext.getRequestConfig();
+            clientContext.setRequestConfig(RequestConfig.copy(config)
+                    .setConnectTimeout(cap(config.getConnectTimeout(), connectTimeoutMs))
+                    .setSocketTimeout(cap(config.getSocketTimeout(), readTimeoutMs))
+                    .build());
+        };
+    }
 
-        return new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new GsonFactory())
-                .setAudience(Collections.singletonList(webClientId))
-                .build();
+    // 0 o negativo es "sin límite" en HttpClient
+    private static int cap(int timeoutMs, int maxMs) {
+        return timeoutMs <= 0 ? maxMs : Math.min(timeoutMs, maxMs);
     }
 }
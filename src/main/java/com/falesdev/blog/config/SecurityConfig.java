@@ -3,9 +3,12 @@ package com.falesdev.blog.config;
 import com.falesdev.blog.domain.dto.response.ApiErrorResponse;
 import com.falesdev.blog.repository.UserRepository;
 import com.falesdev.blog.security.service.BlogUserDetailsService;
+import com.falesdev.blog.security.auth.BoundedPasswordEncoder;
 import com.falesdev.blog.security.auth.JwtAuthenticationFilter;
 import com.falesdev.blog.service.AuthenticationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -82,6 +85,7 @@ public class SecurityConfig {
                             "/api/v1/auth/refresh"
                     ).permitAll()
                     .requestMatchers(HttpMethod.GET,"/api/v1/auth/me").authenticated()
+                    .requestMatchers(HttpMethod.POST,"/api/v1/auth/logout").authenticated()
 
                     // Endpoints de posts,categories,tags,roles,users
                     .requestMatchers(HttpMethod.GET,"/api/v1/posts/**").permitAll()
@@ -98,6 +102,8 @@ public class SecurityConfig {
                     .requestMatchers(HttpMethod.DELETE,"/api/v1/tags/**").hasRole("ADMIN")
                     .requestMatchers(HttpMethod.GET,"/api/v1/roles/**").hasRole("ADMIN")
                     .requestMatchers("/api/v1/users/**").hasRole("ADMIN")
+                    .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
                     .anyRequest().authenticated()
                 )
                 .csrf(csrf ->csrf.disable())
@@ -140,9 +146,15 @@ public class SecurityConfig {
         };
     }
 
+    // 0 hilos = uno por núcleo
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${blog.security.password-hashing.threads:0}") int threads,
+            @Value("${blog.security.password-hashing.queue-capacity:64}") int queueCapacity){
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                PasswordEncoderFactories.createDelegatingPasswordEncoder(), poolSize, queueCapacity, meterRegistry);
     }
 
     @Bean
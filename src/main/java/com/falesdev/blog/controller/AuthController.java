@@ -1,19 +1,23 @@
 package com.falesdev.blog.controller;
 
 import com.falesdev.blog.domain.dto.request.GoogleRequest;
+import com.falesdev.blog.domain.dto.request.LogoutRequest;
 import com.falesdev.blog.domain.dto.request.RefreshTokenRequest;
 import com.falesdev.blog.domain.dto.response.AuthResponse;
 import com.falesdev.blog.domain.dto.response.AuthUserResponse;
 import com.falesdev.blog.domain.dto.request.LoginRequest;
 import com.falesdev.blog.domain.dto.request.RegisterRequest;
 import com.falesdev.blog.security.BlogUserDetails;
+import com.falesdev.blog.security.auth.LoginRateLimiter;
 import com.falesdev.blog.service.AuthenticationService;
 import com.falesdev.blog.service.JwtService;
 import com.falesdev.blog.service.RefreshTokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -27,13 +31,16 @@ public class AuthController {
     private final AuthenticationService authenticationService;
     private final RefreshTokenService refreshTokenService;
     private final JwtService jwtService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Operation(
             summary = "Authenticate a user",
             description = "Returns a JWT token, Refresh Token and expiration time on successful authentication"
     )
     @PostMapping(path = "/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest loginRequest){
+    public ResponseEntity<AuthResponse> login(
+            @Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request){
+        loginRateLimiter.acquire(loginRequest.getEmail(), request.getRemoteAddr());
         return ResponseEntity.ok(authenticationService.authenticate(
                 loginRequest.getEmail(),
                 loginRequest.getPassword()
@@ -83,4 +90,20 @@ public class AuthController {
     ) {
         return ResponseEntity.ok(authenticationService.getUserProfile(userDetails));
     }
+
+    @Operation(
+            summary = "Logout",
+            description = "Revokes the current access token and, when provided, the refresh token chain it belongs to"
+    )
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestBody(required = false) LogoutRequest request
+    ) {
+        authenticationService.logout(
+                authorization.substring("Bearer ".length()),
+                request != null ? request.refreshToken() : null
+        );
+        return ResponseEntity.noContent().build();
+    }
 }
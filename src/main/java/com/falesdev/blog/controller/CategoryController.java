@@ -8,12 +8,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping(path = "/api/v1/categories")
@@ -25,11 +28,17 @@ public class CategoryController {
 
     @Operation(
             summary = "Get all categories",
-            description = "Returns a list of all categories"
+            description = "Returns a list of all categories; supports If-None-Match"
     )
     @GetMapping
-    public ResponseEntity<List<CategoryDto>> listCategories(){
-        return ResponseEntity.ok(categoryService.listCategories());
+    public ResponseEntity<List<CategoryDto>> listCategories(WebRequest request){
+        List<CategoryDto> categories = categoryService.listCategories();
+        String etag = ETags.ofContent(categories.stream()
+                .flatMap(category -> Stream.of(category.getId(), category.getName(), category.getPostCount())));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(categories);
     }
 
     @Operation(
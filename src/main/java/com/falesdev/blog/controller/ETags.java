@@ -0,0 +1,54 @@
+package com.falesdev.blog.controller;
+
+import com.falesdev.blog.domain.dto.AuthorDto;
+import com.falesdev.blog.domain.dto.CategoryDto;
+import com.falesdev.blog.domain.dto.PostVersionDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Validadores HTTP para respuestas condicionales (If-None-Match)
+final class ETags {
+
+    private static final int DIGEST_BYTES = 16;
+
+    private ETags() {
+    }
+
+    // updateAt cubre las columnas del post; autor, categoría y tags se incrustan y cambian por su cuenta.
+    // Solo entra lo que se serializa: de los tags, id y nombre.
+    // Débil: viewCount va en el cuerpo pero no en el validador, así que dos respuestas con el mismo ETag
+    // son equivalentes, no idénticas byte a byte
+    static String ofPost(UUID id, PostVersionDto version) {
+        AuthorDto author = version.author();
+        CategoryDto category = version.category();
+        return "W/" + ofContent(Stream.concat(
+                Stream.of(id, version.updatedAt(),
+                        author.getId(), author.getFirstName(), author.getLastName(),
+                        category.getId(), category.getName(), category.getPostCount()),
+                version.tags().stream().flatMap(tag -> Stream.of(tag.getId(), tag.getName()))));
+    }
+
+    // Para colecciones sin marca de tiempo: resumen de los campos que se serializan, en orden
+    static String ofContent(Stream<?> fields) {
+        MessageDigest digest = sha256();
+        fields.forEach(field -> {
+            digest.update(String.valueOf(field).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        });
+        byte[] hash = digest.digest();
+        return "\"" + HexFormat.of().formatHex(hash, 0, DIGEST_BYTES) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
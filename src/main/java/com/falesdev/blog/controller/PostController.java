@@ -1,10 +1,20 @@
 package com.falesdev.blog.controller;
 
+import com.falesdev.blog.cache.PostPageResponseCache;
 import com.falesdev.blog.domain.dto.PostDto;
+import com.falesdev.blog.domain.dto.PostSearchResultDto;
+import com.falesdev.blog.domain.dto.PostSummaryDto;
+import com.falesdev.blog.domain.dto.PostVersionDto;
 import com.falesdev.blog.domain.dto.request.CreatePostRequestDto;
 import com.falesdev.blog.domain.dto.request.UpdatePostRequestDto;
+import com.falesdev.blog.domain.dto.response.CursorPageResponse;
+import com.falesdev.blog.domain.dto.response.SuggestionsResponse;
 import com.falesdev.blog.service.PostService;
+import com.falesdev.blog.service.PostViewService;
+import com.falesdev.blog.service.SuggestionService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,10 +23,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,29 +40,69 @@ import java.util.UUID;
 public class PostController {
 
     private final PostService postService;
+    private final PostViewService postViewService;
+    private final SuggestionService suggestionService;
+    private final PostPageResponseCache postPageResponseCache;
 
     @Operation(
             summary = "Get all posts",
-            description = "Returns paginated list of posts with optional category/tag filtering"
+            description = "Returns paginated post summaries (excerpt instead of content) with optional category/tag filtering"
     )
     @GetMapping
-    public ResponseEntity<Page<PostDto>> getAllPosts(
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+    public ResponseEntity<byte[]> getAllPosts(
             @RequestParam(required = false) UUID categoryId,
             @RequestParam(required = false) UUID tagId,
             @ParameterObject
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(postService.getAllPosts(categoryId, tagId,pageable));
+        // Mismo resultado para cualquier usuario: se sirve la página ya serializada
+        byte[] body = postPageResponseCache.get(
+                PostPageResponseCache.PageKey.of(categoryId, tagId, pageable),
+                () -> postService.getAllPosts(categoryId, tagId, pageable));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @Operation(
+            summary = "Get post feed",
+            description = "Returns published posts newest first using an opaque cursor instead of page numbers"
+    )
+    @GetMapping(path = "/feed")
+    public ResponseEntity<CursorPageResponse<PostSummaryDto>> getPostFeed(
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) UUID tagId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getPostFeed(categoryId, tagId, cursor, size));
     }
 
     @Operation(
             summary = "Get post by ID",
-            description = "Returns a single post with specified identifier"
+            description = "Returns a single post with specified identifier; supports If-None-Match with a weak ETag " +
+                    "(the view count is not part of it). No Last-Modified is sent, so If-Modified-Since is ignored"
     )
     @GetMapping(path = "/{id}")
     public ResponseEntity<PostDto> getPost(
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(postService.getPost(id));
+        // Solo se consulta la versión; el post completo se carga si el cliente no tiene la actual
+        PostVersionDto version = postService.getPostVersion(id);
+        // Un 304 también es una visita; el contador no forma parte del ETag (débil, ver ETags.ofPost)
+        postViewService.recordView(id);
+        String etag = ETags.ofPost(id, version);
+        // Sin Last-Modified: updatedAt no refleja cambios en la categoría, el autor o los tags,
+        // y un cliente que revalidara por fecha recibiría siempre un 200
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(postService.getPost(id));
     }
 
     @Operation(
@@ -56,7 +110,7 @@ public class PostController {
             description = "Returns paginated list of draft posts for current user"
     )
     @GetMapping(path = "/drafts")
-    public ResponseEntity<Page<PostDto>> getDrafts(
+    public ResponseEntity<Page<PostSummaryDto>> getDrafts(
             @RequestAttribute UUID userId,
             @ParameterObject
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -64,15 +118,38 @@ public class PostController {
     }
 
     @Operation(
-            summary = "Search posts by title",
-            description = "Returns paginated list of posts filtered by title"
+            summary = "Search posts",
+            description = "Full-text search over title and content, ranked by relevance with highlighted snippets"
     )
     @GetMapping("/search")
-    public ResponseEntity<Page<PostDto>> getAllPostsbyTitle(
+    public ResponseEntity<Page<PostSearchResultDto>> searchPosts(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String title,
-            Pageable pageable
+            @ParameterObject Pageable pageable
+    ) {
+        // "title" se mantiene como alias del parámetro anterior
+        return ResponseEntity.ok(postService.searchPosts(q != null ? q : title, pageable));
+    }
+
+    @Operation(
+            summary = "Trending posts",
+            description = "Returns published posts ranked by time-decayed views, served from an in-memory top list"
+    )
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostSummaryDto>> getTrendingPosts(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getTrendingPosts(size));
+    }
+
+    @Operation(
+            summary = "Suggest as you type",
+            description = "Returns post titles, categories and tags matching the given prefix, served from memory"
+    )
+    @GetMapping("/suggest")
+    public ResponseEntity<SuggestionsResponse> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "5") int limit
     ) {
-        return ResponseEntity.ok(postService.getAllPostsbyTitle(title, pageable));
+        return ResponseEntity.ok(suggestionService.suggest(prefix, limit));
     }
 
     @Operation(
@@ -7,12 +7,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping(path = "/api/v1/tags")
@@ -24,11 +27,17 @@ public class TagController {
 
     @Operation(
             summary = "Get all tags",
-            description = "Returns a list of all tags"
+            description = "Returns a list of all tags; supports If-None-Match"
     )
     @GetMapping
-    public ResponseEntity<List<TagDto>> listTags(){
-        return ResponseEntity.ok(tagService.listTags());
+    public ResponseEntity<List<TagDto>> listTags(WebRequest request){
+        List<TagDto> tags = tagService.listTags();
+        String etag = ETags.ofContent(tags.stream()
+                .flatMap(tag -> Stream.of(tag.getId(), tag.getName(), tag.getPostCount())));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(tags);
     }
 
     @Operation(
@@ -69,4 +69,14 @@ public class UserController {
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "Revoke user tokens",
+            description = "Invalidates every access and refresh token issued to the user so far"
+    )
+    @PostMapping(path = "/{id}/revoke-tokens")
+    public ResponseEntity<Void> revokeTokens(@PathVariable UUID id){
+        userService.revokeTokens(id);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,5 @@
+package com.falesdev.blog.domain;
+
+public enum EmailStatus {
+    PENDING, SENT, FAILED
+}
@@ -0,0 +1,6 @@
+package com.falesdev.blog.domain;
+
+public record TextStatistics(int wordCount, int characterCount, int readingTime, String excerpt) {
+
+    public static final TextStatistics EMPTY = new TextStatistics(0, 0, 0, "");
+}
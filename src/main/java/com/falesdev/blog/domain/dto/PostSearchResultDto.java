@@ -0,0 +1,17 @@
+package com.falesdev.blog.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostSearchResultDto {
+
+    private PostSummaryDto post;
+    private String snippet;
+    private double rank;
+}
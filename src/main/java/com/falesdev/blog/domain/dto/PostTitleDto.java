@@ -0,0 +1,7 @@
+package com.falesdev.blog.domain.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PostTitleDto(UUID id, String title, LocalDateTime createdAt) {
+}
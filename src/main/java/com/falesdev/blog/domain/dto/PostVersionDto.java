@@ -0,0 +1,8 @@
+package com.falesdev.blog.domain.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Todo lo que forma la representación de un post salvo content (cubierto por updatedAt); tags ordenados por id
+public record PostVersionDto(LocalDateTime updatedAt, AuthorDto author, CategoryDto category, List<TagDto> tags) {
+}
@@ -0,0 +1,6 @@
+package com.falesdev.blog.domain.dto.request;
+
+public record LogoutRequest(
+        String refreshToken
+) {
+}
@@ -0,0 +1,20 @@
+package com.falesdev.blog.domain.dto.response;
+
+import com.falesdev.blog.domain.dto.SuggestionDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SuggestionsResponse {
+
+    private List<SuggestionDto> posts;
+    private List<SuggestionDto> categories;
+    private List<SuggestionDto> tags;
+}
@@ -3,6 +3,7 @@ package com.falesdev.blog.domain.entity;
 import com.falesdev.blog.domain.PostStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -11,7 +12,10 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_status_created_at_id", columnList = "status, created_at DESC, id DESC"),
+        @Index(name = "idx_posts_category_status_created_at_id", columnList = "category_id, status, created_at DESC, id DESC")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -29,6 +33,10 @@ public class Post {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // Precalculado al escribir para que los listados no lean content
+    @Column(length = 255)
+    private String excerpt;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private PostStatus status;
@@ -36,6 +44,11 @@ public class Post {
     @Column(nullable = false)
     private Integer readingTime;
 
+    // Solo lo escribe PostViewService con UPDATE sumados; guardar la entidad no debe pisarlo
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long viewCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -48,7 +61,8 @@ public class Post {
     @JoinTable(
             name = "post_tags",
             joinColumns = @JoinColumn(name = "post_id"),
-            inverseJoinColumns = @JoinColumn(name = "tag_id")
+            inverseJoinColumns = @JoinColumn(name = "tag_id"),
+            indexes = @Index(name = "idx_post_tags_tag_id", columnList = "tag_id")
     )
     @Builder.Default
     private Set<Tag> tags = new HashSet<>();
@@ -7,7 +7,10 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expiry_date", columnList = "expiry_date")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -19,8 +22,13 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    // SHA-256 del JWT: clave fija de 32 bytes, el token en claro nunca se guarda
+    @Column(nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+
+    // Todos los tokens obtenidos rotando desde un mismo login comparten familia
+    @Column(nullable = false)
+    private UUID familyId;
 
     @Column(nullable = false)
     private UUID userId;
@@ -0,0 +1,33 @@
+package com.falesdev.blog.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "revoked_access_tokens", indexes = {
+        @Index(name = "idx_revoked_access_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_access_tokens_revoked_at", columnList = "revoked_at")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RevokedAccessToken {
+
+    // jti del access token; la fila solo hace falta hasta que el token caduca
+    @Id
+    private UUID jti;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false)
+    private Instant revokedAt;
+}
@@ -2,6 +2,8 @@ package com.falesdev.blog.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Objects;
@@ -15,6 +17,7 @@ import java.util.UUID;
 @Getter
 @Setter
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Tag {
 
     @Id
@@ -0,0 +1,30 @@
+package com.falesdev.blog.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_token_revocations_revoked_before", columnList = "revoked_before")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TokenRevocation {
+
+    // Subject del token (email en minúsculas); se rechaza todo token emitido hasta revokedBefore
+    @Id
+    private String subject;
+
+    @Column(nullable = false)
+    private Instant revokedBefore;
+
+    // A partir de aquí ya no queda ningún token vigente emitido antes de la revocación
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
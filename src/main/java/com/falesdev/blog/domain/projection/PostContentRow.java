@@ -0,0 +1,6 @@
+package com.falesdev.blog.domain.projection;
+
+import java.util.UUID;
+
+public record PostContentRow(UUID id, String content) {
+}
@@ -0,0 +1,19 @@
+package com.falesdev.blog.domain.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Fila plana para listados: nunca incluye la columna content
+public record PostSummaryRow(
+        UUID id,
+        String title,
+        String excerpt,
+        UUID authorId,
+        String authorFirstName,
+        String authorLastName,
+        UUID categoryId,
+        String categoryName,
+        Integer readingTime,
+        LocalDateTime createdAt
+) {
+}
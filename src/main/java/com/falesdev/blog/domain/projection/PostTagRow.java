@@ -0,0 +1,6 @@
+package com.falesdev.blog.domain.projection;
+
+import java.util.UUID;
+
+public record PostTagRow(UUID postId, UUID tagId, String tagName) {
+}
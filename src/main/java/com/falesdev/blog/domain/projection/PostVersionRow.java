@@ -0,0 +1,16 @@
+package com.falesdev.blog.domain.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Validación de GET /posts/{id}: la fila del post y los to-one que se incrustan, sin content
+public record PostVersionRow(
+        LocalDateTime updateAt,
+        UUID authorId,
+        String authorFirstName,
+        String authorLastName,
+        UUID categoryId,
+        String categoryName,
+        Integer categoryPostCount
+) {
+}
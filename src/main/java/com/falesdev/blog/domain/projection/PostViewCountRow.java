@@ -0,0 +1,7 @@
+package com.falesdev.blog.domain.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PostViewCountRow(UUID id, long viewCount, LocalDateTime createdAt) {
+}
@@ -0,0 +1,73 @@
+package com.falesdev.blog.event;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.entity.Post;
+import com.falesdev.blog.domain.entity.Tag;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Publicado por PostServiceImpl dentro de la transacción; los listeners usan AFTER_COMMIT
+// categoryIds y tagIds incluyen los valores anteriores y los actuales: todos los listados afectados
+public record PostChangedEvent(
+        UUID postId,
+        ChangeType changeType,
+        PostStatus previousStatus,
+        PostStatus currentStatus,
+        String title,
+        String content,
+        Set<UUID> categoryIds,
+        Set<UUID> tagIds
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static PostChangedEvent created(Post post) {
+        return new PostChangedEvent(post.getId(), ChangeType.CREATED, null, post.getStatus(),
+                post.getTitle(), post.getContent(), categoryIds(post), tagIds(post));
+    }
+
+    public static PostChangedEvent updated(
+            PostStatus previousStatus,
+            UUID previousCategoryId,
+            Set<UUID> previousTagIds,
+            Post post) {
+        Set<UUID> categoryIds = new HashSet<>(categoryIds(post));
+        if (previousCategoryId != null) {
+            categoryIds.add(previousCategoryId);
+        }
+        Set<UUID> tagIds = new HashSet<>(tagIds(post));
+        tagIds.addAll(previousTagIds);
+        return new PostChangedEvent(post.getId(), ChangeType.UPDATED, previousStatus, post.getStatus(),
+                post.getTitle(), post.getContent(), Set.copyOf(categoryIds), Set.copyOf(tagIds));
+    }
+
+    public static PostChangedEvent deleted(Post post) {
+        return new PostChangedEvent(post.getId(), ChangeType.DELETED, post.getStatus(), null, null, null,
+                categoryIds(post), tagIds(post));
+    }
+
+    public boolean isPublished() {
+        return PostStatus.PUBLISHED.equals(currentStatus);
+    }
+
+    public boolean wasPublished() {
+        return PostStatus.PUBLISHED.equals(previousStatus);
+    }
+
+    private static Set<UUID> categoryIds(Post post) {
+        return post.getCategory() == null ? Set.of() : Set.of(post.getCategory().getId());
+    }
+
+    private static Set<UUID> tagIds(Post post) {
+        return post.getTags() == null ? Set.of() : post.getTags().stream()
+                .map(Tag::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,8 @@
+package com.falesdev.blog.event;
+
+import java.util.Map;
+import java.util.UUID;
+
+// Publicado por PostViewServiceImpl tras escribir un lote: visitas nuevas por post desde el volcado anterior
+public record PostViewsFlushedEvent(Map<UUID, Long> views) {
+}
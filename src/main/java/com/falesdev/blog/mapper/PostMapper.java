@@ -1,14 +1,19 @@
 package com.falesdev.blog.mapper;
 
 import com.falesdev.blog.domain.dto.PostDto;
+import com.falesdev.blog.domain.dto.PostSummaryDto;
+import com.falesdev.blog.domain.dto.TagDto;
 import com.falesdev.blog.domain.dto.request.CreatePostRequestDto;
 import com.falesdev.blog.domain.dto.request.UpdatePostRequestDto;
 import com.falesdev.blog.domain.entity.Post;
+import com.falesdev.blog.domain.projection.PostSummaryRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.Set;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface PostMapper {
 
@@ -18,6 +23,14 @@ public interface PostMapper {
     @Mapping(target = "status", source = "status")
     PostDto toDto(Post post);
 
+    @Mapping(target = "author.id", source = "row.authorId")
+    @Mapping(target = "author.firstName", source = "row.authorFirstName")
+    @Mapping(target = "author.lastName", source = "row.authorLastName")
+    @Mapping(target = "category.id", source = "row.categoryId")
+    @Mapping(target = "category.name", source = "row.categoryName")
+    @Mapping(target = "tags", source = "tags")
+    PostSummaryDto toSummaryDto(PostSummaryRow row, Set<TagDto> tags);
+
     @Mapping(target = "id", ignore = true)
     Post toCreatePost(CreatePostRequestDto dto);
 
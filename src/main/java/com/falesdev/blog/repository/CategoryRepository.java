@@ -1,8 +1,14 @@
 package com.falesdev.blog.repository;
 
+import com.falesdev.blog.domain.dto.CategoryDto;
 import com.falesdev.blog.domain.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,8 +17,22 @@ import java.util.UUID;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
-    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.posts")
-    List<Category> findAllWithPostCount();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.falesdev.blog.domain.dto.CategoryDto(c.id, c.name, c.postCount) FROM Category c ORDER BY c.name")
+    List<CategoryDto> findAllWithPostCount();
 
     boolean existsByNameIgnoreCase(String name);
+
+    @Modifying
+    @Query("UPDATE Category c SET c.postCount = c.postCount + :delta WHERE c.id = :id")
+    int adjustPostCount(@Param("id") UUID id, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE categories SET post_count = (
+                SELECT COUNT(*) FROM posts p WHERE p.category_id = categories.id AND p.status = 'PUBLISHED')
+            WHERE post_count <> (
+                SELECT COUNT(*) FROM posts p WHERE p.category_id = categories.id AND p.status = 'PUBLISHED')
+            """, nativeQuery = true)
+    int reconcilePostCounts();
 }
@@ -1,17 +1,30 @@
 package com.falesdev.blog.repository;
 
 import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.dto.PostTitleDto;
 import com.falesdev.blog.domain.entity.Category;
 import com.falesdev.blog.domain.entity.Post;
 import com.falesdev.blog.domain.entity.Tag;
 import com.falesdev.blog.domain.entity.User;
+import com.falesdev.blog.domain.projection.PostContentRow;
+import com.falesdev.blog.domain.projection.PostSummaryRow;
+import com.falesdev.blog.domain.projection.PostTagRow;
+import com.falesdev.blog.domain.projection.PostVersionRow;
+import com.falesdev.blog.domain.projection.PostViewCountRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -40,8 +53,150 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
             PostStatus status,
             Pageable pageable);
 
-    Page<Post> findAllByTitleContainingIgnoreCaseAndStatus(
-            String title,
-            PostStatus status,
+    // :term llega con \, % y _ escapados (LikePostSearchEngine)
+    @Query(value = "SELECT p FROM Post p WHERE p.status = :status " +
+            "AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :term, '%')) ESCAPE '\\' " +
+            "OR LOWER(p.content) LIKE LOWER(CONCAT('%', :term, '%')) ESCAPE '\\') " +
+            "ORDER BY CASE WHEN LOWER(p.title) LIKE LOWER(CONCAT('%', :term, '%')) ESCAPE '\\' THEN 0 ELSE 1 END, p.createdAt DESC, p.id",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.status = :status " +
+                    "AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :term, '%')) ESCAPE '\\' " +
+                    "OR LOWER(p.content) LIKE LOWER(CONCAT('%', :term, '%')) ESCAPE '\\')")
+    Page<Post> searchByTitleOrContent(
+            @Param("status") PostStatus status,
+            @Param("term") String term,
             Pageable pageable);
+
+    @Query(value = "SELECT p.id FROM Post p WHERE p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.status = :status")
+    Page<UUID> findIdsByStatus(
+            @Param("status") PostStatus status,
+            Pageable pageable
+    );
+
+    @Query(value = "SELECT p.id FROM Post p WHERE p.status = :status AND p.category = :category",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.status = :status AND p.category = :category")
+    Page<UUID> findIdsByStatusAndCategory(
+            @Param("status") PostStatus status,
+            @Param("category") Category category,
+            Pageable pageable
+    );
+
+    @Query(value = "SELECT p.id FROM Post p JOIN p.tags t WHERE p.status = :status AND t = :tag",
+            countQuery = "SELECT COUNT(p) FROM Post p JOIN p.tags t WHERE p.status = :status AND t = :tag")
+    Page<UUID> findIdsByStatusAndTag(
+            @Param("status") PostStatus status,
+            @Param("tag") Tag tag,
+            Pageable pageable
+    );
+
+    @Query(value = "SELECT p.id FROM Post p WHERE p.author = :author AND p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.author = :author AND p.status = :status")
+    Page<UUID> findIdsByAuthorAndStatus(
+            @Param("author") User author,
+            @Param("status") PostStatus status,
+            Pageable pageable
+    );
+
+    // Feed por keyset: sin OFFSET ni COUNT, el coste es el mismo en cualquier página
+    @Query("SELECT p.id FROM Post p WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    List<UUID> findFeedIdsByStatus(
+            @Param("status") PostStatus status,
+            Limit limit
+    );
+
+    @Query("SELECT p.id FROM Post p WHERE p.status = :status " +
+            "AND (p.createdAt, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<UUID> findFeedIdsByStatusAfter(
+            @Param("status") PostStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    @Query("SELECT p.id FROM Post p WHERE p.status = :status AND p.category = :category " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<UUID> findFeedIdsByStatusAndCategory(
+            @Param("status") PostStatus status,
+            @Param("category") Category category,
+            Limit limit
+    );
+
+    @Query("SELECT p.id FROM Post p WHERE p.status = :status AND p.category = :category " +
+            "AND (p.createdAt, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<UUID> findFeedIdsByStatusAndCategoryAfter(
+            @Param("status") PostStatus status,
+            @Param("category") Category category,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    @Query("SELECT p.id FROM Post p JOIN p.tags t WHERE p.status = :status AND t = :tag " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<UUID> findFeedIdsByStatusAndTag(
+            @Param("status") PostStatus status,
+            @Param("tag") Tag tag,
+            Limit limit
+    );
+
+    @Query("SELECT p.id FROM Post p JOIN p.tags t WHERE p.status = :status AND t = :tag " +
+            "AND (p.createdAt, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<UUID> findFeedIdsByStatusAndTagAfter(
+            @Param("status") PostStatus status,
+            @Param("tag") Tag tag,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    Slice<Post> findByStatus(PostStatus status, Pageable pageable);
+
+    Slice<Post> findByStatusAndUpdateAtAfter(PostStatus status, LocalDateTime updatedAfter, Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p WHERE p.status = :status")
+    List<UUID> findAllIdsByStatus(@Param("status") PostStatus status);
+
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids AND p.status = :status")
+    List<UUID> findIdsByIdInAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") PostStatus status);
+
+    @Query("SELECT new com.falesdev.blog.domain.projection.PostViewCountRow(p.id, p.viewCount, p.createdAt) " +
+            "FROM Post p WHERE p.status = :status AND p.viewCount > 0 ORDER BY p.viewCount DESC")
+    List<PostViewCountRow> findMostViewedByStatus(@Param("status") PostStatus status, Limit limit);
+
+    @Query("SELECT new com.falesdev.blog.domain.dto.PostTitleDto(p.id, p.title, p.createdAt) " +
+            "FROM Post p WHERE p.status = :status")
+    List<PostTitleDto> findAllTitlesByStatus(@Param("status") PostStatus status);
+
+    // Listados: columnas escalares y to-one en una consulta, tags en otra; content nunca se lee
+    @Query("SELECT new com.falesdev.blog.domain.projection.PostSummaryRow(" +
+            "p.id, p.title, p.excerpt, a.id, a.firstName, a.lastName, c.id, c.name, p.readingTime, p.createdAt) " +
+            "FROM Post p JOIN p.author a JOIN p.category c WHERE p.id IN :ids")
+    List<PostSummaryRow> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.falesdev.blog.domain.projection.PostTagRow(p.id, t.id, t.name) " +
+            "FROM Post p JOIN p.tags t WHERE p.id IN :ids")
+    List<PostTagRow> findTagsByPostIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.falesdev.blog.domain.projection.PostContentRow(p.id, p.content) " +
+            "FROM Post p WHERE p.excerpt IS NULL ORDER BY p.id")
+    List<PostContentRow> findContentWithoutExcerpt(Limit limit);
+
+    // No pasa por @PreUpdate: rellenar el extracto no cuenta como edición del post
+    @Modifying
+    @Query("UPDATE Post p SET p.excerpt = :excerpt WHERE p.id = :id")
+    int updateExcerpt(@Param("id") UUID id, @Param("excerpt") String excerpt);
+
+    // Validación de peticiones condicionales sin cargar content ni colecciones
+    @Query("SELECT new com.falesdev.blog.domain.projection.PostVersionRow(" +
+            "p.updateAt, a.id, a.firstName, a.lastName, c.id, c.name, c.postCount) " +
+            "FROM Post p JOIN p.author a JOIN p.category c WHERE p.id = :id")
+    Optional<PostVersionRow> findVersionById(@Param("id") UUID id);
+
+    // Solo lo que PostDto serializa de cada tag (postCount sale nulo en PostMapper)
+    @Query("SELECT new com.falesdev.blog.domain.projection.PostTagRow(p.id, t.id, t.name) " +
+            "FROM Post p JOIN p.tags t WHERE p.id = :id ORDER BY t.id")
+    List<PostTagRow> findTagsByPostId(@Param("id") UUID id);
 }
@@ -8,15 +8,38 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
-import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
-    Optional<RefreshToken> findByToken(String token);
+    boolean existsByTokenHash(byte[] tokenHash);
     void deleteByUserId(UUID userId);
 
+    // Consumir es una sola escritura condicional: solo una petición concurrente puede ganar
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.userId = :userId AND (rt.expiryDate < :now OR rt.revoked = true)")
-    void deleteExpiredOrRevokedByUser(@Param("userId") UUID userId, @Param("now") Instant now);
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true " +
+            "WHERE rt.tokenHash = :tokenHash AND rt.revoked = false AND rt.expiryDate > :now")
+    int consume(@Param("tokenHash") byte[] tokenHash, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.familyId = :familyId AND rt.revoked = false")
+    int revokeFamily(@Param("familyId") UUID familyId);
+
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.userId = :userId AND rt.revoked = false")
+    int revokeByUserId(@Param("userId") UUID userId);
+
+    // Recorre el índice de expiry_date; SKIP LOCKED evita esperar por filas que se están consumiendo
+    @Modifying
+    @Query(value = """
+            DELETE FROM refresh_tokens WHERE id IN (
+                SELECT id FROM refresh_tokens
+                WHERE expiry_date < :revokedBefore AND (expiry_date < :now OR revoked = true)
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteStaleBatch(
+            @Param("now") Instant now,
+            @Param("revokedBefore") Instant revokedBefore,
+            @Param("batchSize") int batchSize);
 }
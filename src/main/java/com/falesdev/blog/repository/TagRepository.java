@@ -1,8 +1,14 @@
 package com.falesdev.blog.repository;
 
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.dto.TagDto;
 import com.falesdev.blog.domain.entity.Tag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,8 +18,15 @@ import java.util.UUID;
 @Repository
 public interface TagRepository extends JpaRepository<Tag, UUID> {
 
-    @Query("SELECT t FROM Tag t LEFT JOIN FETCH t.posts")
-    List<Tag> findAllWithPostCount();
+    // Caché de consultas: se invalida sola cuando cambian tags, posts o post_tags
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            SELECT new com.falesdev.blog.domain.dto.TagDto(t.id, t.name, CAST(COUNT(p.id) AS Integer))
+            FROM Tag t LEFT JOIN t.posts p ON p.status = :status
+            GROUP BY t.id, t.name
+            ORDER BY t.name
+            """)
+    List<TagDto> findAllWithPostCount(@Param("status") PostStatus status);
 
     List<Tag> findByNameIn(Set<String> names);
 }
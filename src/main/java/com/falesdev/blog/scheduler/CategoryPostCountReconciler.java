@@ -0,0 +1,28 @@
+package com.falesdev.blog.scheduler;
+
+import com.falesdev.blog.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryPostCountReconciler {
+
+    private final CategoryRepository categoryRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${blog.categories.post-count-reconcile-cron:0 0 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        int drifted = categoryRepository.reconcilePostCounts();
+        if (drifted > 0) {
+            log.warn("Reconciled published post count on {} categories", drifted);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.falesdev.blog.scheduler;
+
+import com.falesdev.blog.domain.EmailStatus;
+import com.falesdev.blog.domain.entity.EmailOutbox;
+import com.falesdev.blog.repository.EmailOutboxRepository;
+import com.falesdev.blog.service.EmailService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Vacía email_outbox en lotes. Cada lote se reserva en una transacción corta (se adelanta nextAttemptAt
+ * como arrendamiento), se envía con una sola conexión SMTP y el resultado se guarda en otra transacción.
+ * Si la instancia cae a mitad de envío, el lote vuelve a estar disponible al vencer el arrendamiento:
+ * entrega al menos una vez. El arrendamiento nunca es menor que el peor envío posible de un lote con los
+ * timeouts SMTP configurados; si lo fuera, otra pasada reenviaría correos que siguen en curso.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration sentRetention;
+
+    private final Timer sendTimer;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final AtomicLong pending = new AtomicLong();
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository emailOutboxRepository,
+            EmailService emailService,
+            JavaMailSender mailSender,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${blog.mail.outbox.batch-size:50}") int batchSize,
+            @Value("${blog.mail.outbox.max-batches:10}") int maxBatches,
+            @Value("${blog.mail.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${blog.mail.outbox.lease-ms:600000}") long leaseMs,
+            @Value("${blog.mail.outbox.initial-backoff-ms:30000}") long initialBackoffMs,
+            @Value("${blog.mail.outbox.max-backoff-ms:3600000}") long maxBackoffMs,
+            @Value("${blog.mail.outbox.sent-retention-hours:168}") long sentRetentionHours,
+            @Value("${spring.mail.properties.mail.smtp.connectiontimeout:3000}") long smtpConnectionTimeoutMs,
+            @Value("${spring.mail.properties.mail.smtp.timeout:3000}") long smtpTimeoutMs,
+            @Value("${spring.mail.properties.mail.smtp.writetimeout:5000}") long smtpWriteTimeoutMs) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease(Duration.ofMillis(leaseMs),
+                Duration.ofMillis(smtpConnectionTimeoutMs + batchSize * (smtpTimeoutMs + smtpWriteTimeoutMs)));
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.sentRetention = Duration.ofHours(sentRetentionHours);
+        this.sendTimer = Timer.builder("blog.mail.send")
+                .description("Time to deliver one outbox batch over a single SMTP connection")
+                .register(meterRegistry);
+        this.sent = Counter.builder("blog.mail.outbox.delivered")
+                .description("Outbox emails accepted by the SMTP server")
+                .register(meterRegistry);
+        this.retried = Counter.builder("blog.mail.outbox.retried")
+                .description("Outbox emails rescheduled after a failed attempt")
+                .register(meterRegistry);
+        this.failed = Counter.builder("blog.mail.outbox.failed")
+                .description("Outbox emails given up on after the last attempt")
+                .register(meterRegistry);
+        Gauge.builder("blog.mail.outbox.pending", pending, AtomicLong::get)
+                .description("Emails waiting in the outbox after the last dispatch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.mail.outbox.poll-interval-ms:5000}")
+    public int dispatch() {
+        int delivered = 0;
+        for (int batches = 0; batches < maxBatches; batches++) {
+            List<EmailOutbox> batch = claim();
+            if (batch.isEmpty()) {
+                break;
+            }
+            delivered += deliver(batch);
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        pending.set(emailOutboxRepository.countByStatus(EmailStatus.PENDING));
+        return delivered;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.mail.outbox.purge-interval-ms:3600000}")
+    public int purgeSent() {
+        Instant before = Instant.now().minus(sentRetention);
+        return Objects.requireNonNull(transactionTemplate.execute(
+                status -> emailOutboxRepository.deleteSentBefore(EmailStatus.SENT, before)));
+    }
+
+    private List<EmailOutbox> claim() {
+        Instant now = Instant.now();
+        return Objects.requireNonNull(transactionTemplate.execute(status -> {
+            List<EmailOutbox> batch = emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                    EmailStatus.PENDING, now, Limit.of(batchSize));
+            batch.forEach(email -> email.setNextAttemptAt(now.plus(lease)));
+            return batch;
+        }));
+    }
+
+    private int deliver(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        Map<EmailOutbox, Exception> failures = new IdentityHashMap<>();
+        for (EmailOutbox email : batch) {
+            try {
+                messages.put(emailService.buildMessage(email), email);
+            } catch (RuntimeException e) {
+                failures.put(email, e);
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            long start = System.nanoTime();
+            try {
+                // JavaMailSender abre una conexión y envía todo el array por ella
+                mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) {
+                    messages.values().forEach(email -> failures.put(email, e));
+                } else {
+                    e.getFailedMessages().forEach((message, cause) -> failures.put(messages.get(message), cause));
+                }
+            } catch (MailException e) {
+                messages.values().forEach(email -> failures.put(email, e));
+            } finally {
+                sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        Instant now = Instant.now();
+        int delivered = 0;
+        for (EmailOutbox email : batch) {
+            Exception failure = failures.get(email);
+            if (failure == null) {
+                email.setStatus(EmailStatus.SENT);
+                email.setSentAt(now);
+                email.setLastError(null);
+                delivered++;
+            } else {
+                recordFailure(email, failure, now);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.saveAll(batch));
+
+        sent.increment(delivered);
+        if (!failures.isEmpty()) {
+            log.warn("Delivered {} of {} outbox emails; {} will be retried or dropped",
+                    delivered, batch.size(), failures.size());
+        }
+        return delivered;
+    }
+
+    private void recordFailure(EmailOutbox email, Exception failure, Instant now) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(truncate(String.valueOf(failure.getMessage())));
+        if (attempts >= maxAttempts) {
+            email.setStatus(EmailStatus.FAILED);
+            failed.increment();
+            log.error("Giving up on {} email {} to {} after {} attempts",
+                    email.getType(), email.getId(), email.getRecipient(), attempts, failure);
+            return;
+        }
+        email.setNextAttemptAt(now.plus(backoff(attempts)));
+        retried.increment();
+    }
+
+    private static Duration lease(Duration configured, Duration worstCaseSend) {
+        if (configured.compareTo(worstCaseSend) > 0) {
+            return configured;
+        }
+        Duration lease = worstCaseSend.plusMinutes(1);
+        log.warn("blog.mail.outbox.lease-ms={} does not cover a batch sent at the SMTP timeouts ({} ms); using {} ms",
+                configured.toMillis(), worstCaseSend.toMillis(), lease.toMillis());
+        return lease;
+    }
+
+    // Exponencial con tope y hasta un 20 % de jitter para no reintentar todo el lote a la vez
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (delay.compareTo(maxBackoff) > 0) {
+            delay = maxBackoff;
+        }
+        long jitterMs = ThreadLocalRandom.current().nextLong(delay.toMillis() / 5 + 1);
+        return delay.plusMillis(jitterMs);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
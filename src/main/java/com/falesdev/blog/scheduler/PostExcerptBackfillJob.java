@@ -0,0 +1,50 @@
+package com.falesdev.blog.scheduler;
+
+import com.falesdev.blog.domain.projection.PostContentRow;
+import com.falesdev.blog.repository.PostRepository;
+import com.falesdev.blog.service.TextStatisticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+// Rellena el extracto de los posts creados antes de que existiera la columna, por lotes
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostExcerptBackfillJob {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final PostRepository postRepository;
+    private final TextStatisticsService textStatisticsService;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = 0;
+        int batch;
+        do {
+            batch = Objects.requireNonNull(transactionTemplate.execute(status -> backfillBatch()));
+            updated += batch;
+        } while (batch == BATCH_SIZE);
+
+        if (updated > 0) {
+            log.info("Backfilled excerpt for {} posts", updated);
+        }
+    }
+
+    private int backfillBatch() {
+        List<PostContentRow> rows = postRepository.findContentWithoutExcerpt(Limit.of(BATCH_SIZE));
+        for (PostContentRow row : rows) {
+            postRepository.updateExcerpt(row.id(), textStatisticsService.analyze(row.content()).excerpt());
+        }
+        return rows.size();
+    }
+}
@@ -0,0 +1,98 @@
+package com.falesdev.blog.scheduler;
+
+import com.falesdev.blog.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Borra refresh tokens caducados o revocados de todos los usuarios, en lotes cortos y espaciados
+@Slf4j
+@Component
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long refreshExpiryMs;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long batchPauseMs;
+    private final Duration revokedRetention;
+    private final Counter reclaimed;
+    private final AtomicLong rows = new AtomicLong();
+
+    public RefreshTokenSweeper(
+            RefreshTokenRepository refreshTokenRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-expiration-ms}") long refreshExpiryMs,
+            @Value("${blog.security.refresh-token-sweeper.batch-size:500}") int batchSize,
+            @Value("${blog.security.refresh-token-sweeper.max-batches:20}") int maxBatches,
+            @Value("${blog.security.refresh-token-sweeper.batch-pause-ms:50}") long batchPauseMs,
+            @Value("${blog.security.refresh-token-sweeper.revoked-retention-hours:72}") long revokedRetentionHours) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.refreshExpiryMs = refreshExpiryMs;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.batchPauseMs = batchPauseMs;
+        this.revokedRetention = Duration.ofHours(revokedRetentionHours);
+        this.reclaimed = Counter.builder("blog.auth.refresh-tokens.reclaimed")
+                .description("Expired or revoked refresh tokens deleted by the sweeper")
+                .register(meterRegistry);
+        Gauge.builder("blog.auth.refresh-tokens.rows", rows, AtomicLong::get)
+                .description("Rows in refresh_tokens after the last sweep")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${blog.security.refresh-token-sweeper.interval-ms:300000}",
+            fixedDelayString = "${blog.security.refresh-token-sweeper.interval-ms:300000}")
+    public int sweep() {
+        Instant now = Instant.now();
+        // Sin fecha de revocación: emisión = expiryDate - vigencia, así que los revocados emitidos hace
+        // más de la retención son los que caducan antes de este corte (se guardan para detectar reutilización)
+        Instant revokedBefore = now.plusMillis(refreshExpiryMs).minus(revokedRetention);
+        if (revokedBefore.isBefore(now)) {
+            revokedBefore = now;
+        }
+        Instant cutoff = revokedBefore;
+
+        int deleted = 0;
+        int batches = 0;
+        int batch;
+        do {
+            batch = Objects.requireNonNull(transactionTemplate.execute(
+                    status -> refreshTokenRepository.deleteStaleBatch(now, cutoff, batchSize)));
+            deleted += batch;
+            batches++;
+        } while (batch == batchSize && batches < maxBatches && pause());
+
+        reclaimed.increment(deleted);
+        rows.set(refreshTokenRepository.count());
+        if (deleted > 0) {
+            log.info("Deleted {} stale refresh tokens in {} batches", deleted, batches);
+        }
+        return deleted;
+    }
+
+    // Deja respirar a la base de datos entre lotes; lo pendiente se borra en la siguiente ejecución
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.falesdev.blog.search;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.entity.Post;
+import com.falesdev.blog.event.PostChangedEvent;
+import com.falesdev.blog.repository.PostRepository;
+import com.falesdev.blog.search.index.InvertedIndex;
+import com.falesdev.blog.search.index.Tokenizer;
+import com.falesdev.blog.service.TextStatisticsService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Motor en proceso: índice invertido con BM25, sin ida y vuelta a la base de datos al buscar
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "blog.search.engine", havingValue = "memory")
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+
+    private static final int SNAPSHOT_MAGIC = 0x424C4958;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int BATCH_SIZE = 500;
+    // Transacciones aún abiertas al hacer el snapshot pueden confirmar con un updateAt anterior
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+    private final PostRepository postRepository;
+    private final TextStatisticsService textStatisticsService;
+    private final Path snapshotPath;
+
+    private final ReentrantLock readyLock = new ReentrantLock();
+    private final Queue<PostChangedEvent> pendingEvents = new ArrayDeque<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile InvertedIndex index = new InvertedIndex();
+    private boolean ready;
+
+    public InMemoryPostSearchEngine(
+            PostRepository postRepository,
+            TextStatisticsService textStatisticsService,
+            @Value("${blog.search.memory.snapshot-path:}") String snapshotPath) {
+        this.postRepository = postRepository;
+        this.textStatisticsService = textStatisticsService;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long start = System.nanoTime();
+        try {
+            LocalDateTime snapshotTakenAt = loadSnapshot();
+            if (snapshotTakenAt == null) {
+                rebuild();
+            } else {
+                catchUp(snapshotTakenAt.minus(CATCH_UP_MARGIN));
+            }
+        } finally {
+            // Los cambios confirmados durante la carga se aplican ahora, en orden
+            readyLock.lock();
+            try {
+                PostChangedEvent event;
+                while ((event = pendingEvents.poll()) != null) {
+                    apply(event);
+                }
+                ready = true;
+            } finally {
+                readyLock.unlock();
+            }
+        }
+        log.info("Post search index ready with {} posts in {} ms",
+                index.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        readyLock.lock();
+        try {
+            if (!ready) {
+                pendingEvents.add(event);
+                return;
+            }
+        } finally {
+            readyLock.unlock();
+        }
+        apply(event);
+    }
+
+    @Override
+    public Page<PostSearchHit> search(String query, Pageable pageable) {
+        InvertedIndex.SearchResult result = index.search(query, pageable.getOffset(), pageable.getPageSize());
+        Set<String> terms = new HashSet<>(Tokenizer.tokenize(query));
+        List<PostSearchHit> hits = result.hits().stream()
+                .map(hit -> new PostSearchHit(hit.postId(), hit.score(), highlight(hit.excerpt(), terms)))
+                .toList();
+        return new PageImpl<>(hits, pageable, result.totalHits());
+    }
+
+    @Scheduled(fixedDelayString = "${blog.search.memory.snapshot-interval-ms:300000}")
+    public void writeSnapshotIfDirty() {
+        if (dirty.get()) {
+            writeSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void writeSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+
+        LocalDateTime takenAt = LocalDateTime.now();
+        dirty.set(false);
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "post-index", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeUTF(takenAt.toString());
+                index.writeTo(out);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Post search snapshot written to {}", snapshotPath);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Could not write post search snapshot to {}", snapshotPath, e);
+        }
+    }
+
+    private void apply(PostChangedEvent event) {
+        if (event.isPublished()) {
+            index(event.postId(), event.title(), event.content());
+        } else if (event.wasPublished() || event.changeType() == PostChangedEvent.ChangeType.DELETED) {
+            index.remove(event.postId());
+        }
+        dirty.set(true);
+    }
+
+    private void index(UUID postId, String title, String content) {
+        index.put(postId, title, content, textStatisticsService.analyze(content).excerpt());
+    }
+
+    private void rebuild() {
+        InvertedIndex rebuilt = new InvertedIndex();
+        forEachPage(pageable -> postRepository.findByStatus(PostStatus.PUBLISHED, pageable),
+                post -> rebuilt.put(post.getId(), post.getTitle(), post.getContent(),
+                        textStatisticsService.analyze(post.getContent()).excerpt()));
+        index = rebuilt;
+        dirty.set(true);
+    }
+
+    // Tras cargar un snapshot: quita lo que ya no está publicado y reindexa lo que cambió después
+    private void catchUp(LocalDateTime changedAfter) {
+        Set<UUID> publishedIds = new HashSet<>(postRepository.findAllIdsByStatus(PostStatus.PUBLISHED));
+        index.postIds().stream()
+                .filter(postId -> !publishedIds.contains(postId))
+                .forEach(index::remove);
+
+        forEachPage(pageable -> postRepository.findByStatusAndUpdateAtAfter(PostStatus.PUBLISHED, changedAfter, pageable),
+                post -> index(post.getId(), post.getTitle(), post.getContent()));
+
+        List<UUID> missing = publishedIds.stream().filter(postId -> !index.contains(postId)).toList();
+        for (int from = 0; from < missing.size(); from += BATCH_SIZE) {
+            postRepository.findAllById(missing.subList(from, Math.min(missing.size(), from + BATCH_SIZE)))
+                    .forEach(post -> index(post.getId(), post.getTitle(), post.getContent()));
+        }
+        dirty.set(true);
+    }
+
+    private void forEachPage(Function<Pageable, Slice<Post>> query, Consumer<Post> consumer) {
+        Pageable pageable = PageRequest.of(0, BATCH_SIZE, Sort.by("id"));
+        Slice<Post> slice;
+        do {
+            slice = query.apply(pageable);
+            slice.forEach(consumer);
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+    }
+
+    private LocalDateTime loadSnapshot() {
+        if (snapshotPath == null || !Files.isReadable(snapshotPath)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring incompatible post search snapshot {}", snapshotPath);
+                return null;
+            }
+            LocalDateTime takenAt = LocalDateTime.parse(in.readUTF());
+            index = InvertedIndex.readFrom(in);
+            return takenAt;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read post search snapshot {}, rebuilding", snapshotPath, e);
+            index = new InvertedIndex();
+            return null;
+        }
+    }
+
+    // Marca en el extracto las palabras que coinciden con la consulta, igual que ts_headline.
+    // El contenido del post se escapa: solo las marcas <mark> llegan como HTML
+    private static String highlight(String excerpt, Set<String> terms) {
+        if (excerpt == null || excerpt.isEmpty()) {
+            return "";
+        }
+        if (terms.isEmpty()) {
+            return HtmlUtils.htmlEscape(excerpt, "UTF-8");
+        }
+
+        StringBuilder highlighted = new StringBuilder(excerpt.length() + 32);
+        int runStart = 0;
+        boolean wordRun = Character.isLetterOrDigit(excerpt.charAt(0));
+        for (int i = 1; i <= excerpt.length(); i++) {
+            boolean wordChar = i < excerpt.length() && Character.isLetterOrDigit(excerpt.charAt(i));
+            if (i < excerpt.length() && wordChar == wordRun) {
+                continue;
+            }
+            String run = excerpt.substring(runStart, i);
+            if (wordRun && terms.contains(Tokenizer.normalize(run))) {
+                highlighted.append("<mark>").append(HtmlUtils.htmlEscape(run, "UTF-8")).append("</mark>");
+            } else {
+                highlighted.append(HtmlUtils.htmlEscape(run, "UTF-8"));
+            }
+            runStart = i;
+            wordRun = wordChar;
+        }
+        return highlighted.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.falesdev.blog.search;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.entity.Post;
+import com.falesdev.blog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+// Alternativa portable (H2 en tests): LIKE sobre título y contenido, títulos primero
+@Component
+@ConditionalOnProperty(name = "blog.search.engine", havingValue = "like")
+@RequiredArgsConstructor
+public class LikePostSearchEngine implements PostSearchEngine {
+
+    private static final int SNIPPET_RADIUS = 80;
+
+    private final PostRepository postRepository;
+
+    @Override
+    public Page<PostSearchHit> search(String query, Pageable pageable) {
+        String term = query.trim();
+        Page<Post> posts = postRepository.searchByTitleOrContent(
+                PostStatus.PUBLISHED,
+                escapeLike(term),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+        );
+        return posts.map(post -> new PostSearchHit(
+                post.getId(),
+                containsIgnoreCase(post.getTitle(), term) ? 2.0 : 1.0,
+                snippet(post.getContent(), term)
+        ));
+    }
+
+    private static boolean containsIgnoreCase(String text, String term) {
+        return text != null && indexOfIgnoreCase(text, term) >= 0;
+    }
+
+    private static int indexOfIgnoreCase(String text, String term) {
+        for (int i = 0, last = text.length() - term.length(); i <= last; i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // % y _ del usuario se buscan literalmente (la consulta declara ESCAPE '\')
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // El contenido del post se escapa: solo las marcas <mark> llegan como HTML
+    private static String snippet(String content, String term) {
+        if (content == null || content.isEmpty()) {
+            return "";
+        }
+        int match = indexOfIgnoreCase(content, term);
+        if (match < 0) {
+            return escapeHtml(content.substring(0, Math.min(content.length(), SNIPPET_RADIUS * 2)));
+        }
+
+        int start = Math.max(0, match - SNIPPET_RADIUS);
+        int end = Math.min(content.length(), match + term.length() + SNIPPET_RADIUS);
+        return (start > 0 ? "..." : "")
+                + escapeHtml(content.substring(start, match))
+                + "<mark>" + escapeHtml(content.substring(match, match + term.length())) + "</mark>"
+                + escapeHtml(content.substring(match + term.length(), end))
+                + (end < content.length() ? "..." : "");
+    }
+
+    private static String escapeHtml(String text) {
+        return HtmlUtils.htmlEscape(text, "UTF-8");
+    }
+}
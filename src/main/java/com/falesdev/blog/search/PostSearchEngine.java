@@ -0,0 +1,9 @@
+package com.falesdev.blog.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+// Devuelve ids de posts publicados ordenados por relevancia; la hidratación la hace PostService
+public interface PostSearchEngine {
+    Page<PostSearchHit> search(String query, Pageable pageable);
+}
@@ -0,0 +1,6 @@
+package com.falesdev.blog.search;
+
+import java.util.UUID;
+
+public record PostSearchHit(UUID postId, double rank, String snippet) {
+}
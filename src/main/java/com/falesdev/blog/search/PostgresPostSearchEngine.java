@@ -0,0 +1,76 @@
+package com.falesdev.blog.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+// Usa la columna generada posts.search_vector y su índice GIN (ver schema-postgresql.sql)
+@Component
+@ConditionalOnProperty(name = "blog.search.engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresPostSearchEngine implements PostSearchEngine {
+
+    // ts_headline no escapa el contenido: marca con caracteres de control (quitados antes del contenido)
+    // y el fragmento se escapa en Java antes de convertir las marcas en <mark>
+    private static final String MARK_START = "\u0002";
+    private static final String MARK_END = "\u0003";
+
+    private static final String SEARCH_SQL = """
+            SELECT ranked.id, ranked.rank,
+                   ts_headline('simple', translate(p.content, chr(2) || chr(3), ''), ranked.query,
+                               'MaxFragments=2, MaxWords=25, MinWords=8, StartSel=' || chr(2) || ', StopSel=' || chr(3)) AS snippet
+            FROM (
+                SELECT p.id, ts_rank_cd(p.search_vector, q) AS rank, q AS query, p.created_at
+                FROM posts p, websearch_to_tsquery('simple', :query) q
+                WHERE p.status = 'PUBLISHED' AND p.search_vector @@ q
+                ORDER BY rank DESC, p.created_at DESC, p.id
+                LIMIT :limit OFFSET :offset
+            ) ranked
+            JOIN posts p ON p.id = ranked.id
+            ORDER BY ranked.rank DESC, ranked.created_at DESC, ranked.id
+            """;
+
+    private static final String COUNT_SQL = """
+            SELECT COUNT(*)
+            FROM posts p
+            WHERE p.status = 'PUBLISHED' AND p.search_vector @@ websearch_to_tsquery('simple', :query)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<PostSearchHit> search(String query, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        // ts_headline solo se calcula para las filas de la página, no para todas las coincidencias
+        List<PostSearchHit> hits = jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> new PostSearchHit(
+                rs.getObject("id", UUID.class),
+                rs.getDouble("rank"),
+                toHtml(rs.getString("snippet"))
+        ));
+
+        return PageableExecutionUtils.getPage(hits, pageable,
+                () -> jdbcTemplate.queryForObject(COUNT_SQL, params, Long.class));
+    }
+
+    static String toHtml(String snippet) {
+        if (snippet == null) {
+            return "";
+        }
+        return HtmlUtils.htmlEscape(snippet, "UTF-8")
+                .replace(MARK_START, "<mark>")
+                .replace(MARK_END, "</mark>");
+    }
+}
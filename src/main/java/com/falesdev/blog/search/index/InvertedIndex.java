@@ -0,0 +1,353 @@
+package com.falesdev.blog.search.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * Índice invertido en memoria con ranking BM25.
+ * Los documentos reciben docIds crecientes, así que las posting lists se mantienen ordenadas
+ * añadiendo al final. Borrar o actualizar solo marca el docId anterior como muerto; compact()
+ * renumera y limpia las listas cuando los muertos superan a los vivos.
+ */
+public class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MIN_DEAD_FOR_COMPACTION = 1024;
+
+    public record Hit(UUID postId, double score, String excerpt) {
+    }
+
+    public record SearchResult(List<Hit> hits, long totalHits) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<UUID, Integer> docIdByPost = new HashMap<>();
+    private final BitSet live = new BitSet();
+
+    private UUID[] postIds = new UUID[64];
+    private int[] lengths = new int[64];
+    private String[] excerpts = new String[64];
+    private int nextDocId;
+    private int liveCount;
+    private long totalLength;
+
+    public void put(UUID postId, String title, String content, String excerpt) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : Tokenizer.tokenize(title)) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : Tokenizer.tokenize(content)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            int docId = nextDocId++;
+            ensureCapacity(docId + 1);
+            postIds[docId] = postId;
+            lengths[docId] = length;
+            excerpts[docId] = excerpt;
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(docId, frequency));
+            docIdByPost.put(postId, docId);
+            live.set(docId);
+            liveCount++;
+            totalLength += length;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(UUID postId) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = removeLocked(postId);
+            compactIfNeeded();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(UUID postId) {
+        lock.readLock().lock();
+        try {
+            return docIdByPost.containsKey(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<UUID> postIds() {
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(docIdByPost.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SearchResult search(String query, long offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+
+            float averageLength = Math.max(1f, (float) totalLength / liveCount);
+            float[] scores = new float[nextDocId];
+            long matched = 0;
+
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+
+                int documentFrequency = 0;
+                for (int i = 0; i < postingList.size(); i++) {
+                    if (live.get(postingList.docId(i))) {
+                        documentFrequency++;
+                    }
+                }
+                if (documentFrequency == 0) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                for (int i = 0; i < postingList.size(); i++) {
+                    int docId = postingList.docId(i);
+                    if (!live.get(docId)) {
+                        continue;
+                    }
+                    int frequency = postingList.frequency(i);
+                    float norm = K1 * (1 - B + B * lengths[docId] / averageLength);
+                    if (scores[docId] == 0f) {
+                        matched++;
+                    }
+                    scores[docId] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                }
+            }
+
+            return new SearchResult(topHits(scores, offset, limit), matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        lock.writeLock().lock();
+        try {
+            compact();
+            // Se degrada a lectura: las búsquedas siguen mientras se escribe el snapshot
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            out.writeInt(nextDocId);
+            for (int docId = 0; docId < nextDocId; docId++) {
+                out.writeLong(postIds[docId].getMostSignificantBits());
+                out.writeLong(postIds[docId].getLeastSignificantBits());
+                out.writeInt(lengths[docId]);
+                out.writeUTF(excerpts[docId] == null ? "" : excerpts[docId]);
+            }
+
+            out.writeInt(postings.size());
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                PostingList postingList = entry.getValue();
+                out.writeUTF(entry.getKey());
+                writeVarInt(out, postingList.size());
+                int previousDocId = 0;
+                for (int i = 0; i < postingList.size(); i++) {
+                    writeVarInt(out, postingList.docId(i) - previousDocId);
+                    writeVarInt(out, postingList.frequency(i));
+                    previousDocId = postingList.docId(i);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static InvertedIndex readFrom(DataInput in) throws IOException {
+        InvertedIndex index = new InvertedIndex();
+        int documents = in.readInt();
+        index.ensureCapacity(documents);
+        for (int docId = 0; docId < documents; docId++) {
+            UUID postId = new UUID(in.readLong(), in.readLong());
+            index.postIds[docId] = postId;
+            index.lengths[docId] = in.readInt();
+            String excerpt = in.readUTF();
+            index.excerpts[docId] = excerpt.isEmpty() ? null : excerpt;
+            index.docIdByPost.put(postId, docId);
+            index.totalLength += index.lengths[docId];
+        }
+        index.nextDocId = documents;
+        index.liveCount = documents;
+        index.live.set(0, documents);
+
+        int terms = in.readInt();
+        for (int t = 0; t < terms; t++) {
+            String term = in.readUTF();
+            int size = readVarInt(in);
+            PostingList postingList = new PostingList(size);
+            int docId = 0;
+            for (int i = 0; i < size; i++) {
+                docId += readVarInt(in);
+                postingList.add(docId, readVarInt(in));
+            }
+            index.postings.put(term, postingList);
+        }
+        return index;
+    }
+
+    private boolean removeLocked(UUID postId) {
+        Integer docId = docIdByPost.remove(postId);
+        if (docId == null) {
+            return false;
+        }
+        live.clear(docId);
+        liveCount--;
+        totalLength -= lengths[docId];
+        postIds[docId] = null;
+        excerpts[docId] = null;
+        return true;
+    }
+
+    private void compactIfNeeded() {
+        int dead = nextDocId - liveCount;
+        if (dead >= MIN_DEAD_FOR_COMPACTION && dead > liveCount) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        if (nextDocId == liveCount) {
+            return;
+        }
+
+        int[] newDocIds = new int[nextDocId];
+        UUID[] compactedPostIds = new UUID[Math.max(64, liveCount)];
+        int[] compactedLengths = new int[compactedPostIds.length];
+        String[] compactedExcerpts = new String[compactedPostIds.length];
+        int newDocId = 0;
+        for (int docId = 0; docId < nextDocId; docId++) {
+            if (live.get(docId)) {
+                newDocIds[docId] = newDocId;
+                compactedPostIds[newDocId] = postIds[docId];
+                compactedLengths[newDocId] = lengths[docId];
+                compactedExcerpts[newDocId] = excerpts[docId];
+                docIdByPost.put(postIds[docId], newDocId);
+                newDocId++;
+            } else {
+                newDocIds[docId] = -1;
+            }
+        }
+
+        postings.values().forEach(postingList -> postingList.remap(newDocIds));
+        postings.values().removeIf(postingList -> postingList.size() == 0);
+
+        postIds = compactedPostIds;
+        lengths = compactedLengths;
+        excerpts = compactedExcerpts;
+        nextDocId = newDocId;
+        live.clear();
+        live.set(0, newDocId);
+    }
+
+    private List<Hit> topHits(float[] scores, long offset, int limit) {
+        long wanted = offset + limit;
+        // Montículo mínimo con los mejores "wanted"; a igual score gana el documento más reciente
+        Comparator<Integer> byRank = (a, b) -> {
+            int byScore = Float.compare(scores[a], scores[b]);
+            return byScore != 0 ? byScore : Integer.compare(a, b);
+        };
+        PriorityQueue<Integer> heap = new PriorityQueue<>(byRank);
+        for (int docId = 0; docId < scores.length; docId++) {
+            if (scores[docId] == 0f) {
+                continue;
+            }
+            if (heap.size() < wanted) {
+                heap.add(docId);
+            } else if (byRank.compare(docId, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(docId);
+            }
+        }
+
+        Integer[] ranked = heap.toArray(new Integer[0]);
+        Arrays.sort(ranked, byRank.reversed());
+
+        List<Hit> hits = new ArrayList<>(limit);
+        for (long i = offset; i < ranked.length; i++) {
+            int docId = ranked[(int) i];
+            hits.add(new Hit(postIds[docId], scores[docId], excerpts[docId]));
+        }
+        return hits;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= postIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, postIds.length + (postIds.length >> 1));
+        postIds = Arrays.copyOf(postIds, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+        excerpts = Arrays.copyOf(excerpts, newCapacity);
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,61 @@
+package com.falesdev.blog.search.index;
+
+import java.util.Arrays;
+
+// Documentos en orden creciente de docId con su frecuencia, en arrays primitivos
+final class PostingList {
+
+    private int[] docIds;
+    private int[] frequencies;
+    private int size;
+
+    PostingList() {
+        this(4);
+    }
+
+    PostingList(int capacity) {
+        docIds = new int[Math.max(capacity, 1)];
+        frequencies = new int[Math.max(capacity, 1)];
+    }
+
+    void add(int docId, int frequency) {
+        if (size == docIds.length) {
+            int capacity = size + (size >> 1) + 1;
+            docIds = Arrays.copyOf(docIds, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+        docIds[size] = docId;
+        frequencies[size] = frequency;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int docId(int index) {
+        return docIds[index];
+    }
+
+    int frequency(int index) {
+        return frequencies[index];
+    }
+
+    // newDocIds[old] = nuevo id, o -1 si el documento ya no existe; el orden se conserva
+    void remap(int[] newDocIds) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int newDocId = newDocIds[docIds[i]];
+            if (newDocId >= 0) {
+                docIds[kept] = newDocId;
+                frequencies[kept] = frequencies[i];
+                kept++;
+            }
+        }
+        size = kept;
+        if (docIds.length > size * 2 + 4) {
+            docIds = Arrays.copyOf(docIds, size);
+            frequencies = Arrays.copyOf(frequencies, size);
+        }
+    }
+}
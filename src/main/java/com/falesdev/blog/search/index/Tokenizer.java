@@ -0,0 +1,52 @@
+package com.falesdev.blog.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+// Minúsculas, sin acentos ("Búsqueda" -> "busqueda"), cortando en todo lo que no sea letra o dígito
+public final class Tokenizer {
+
+    static final int MIN_TOKEN_LENGTH = 2;
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder token = new StringBuilder(MAX_TOKEN_LENGTH);
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (Character.getType(codePoint) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(codePoint)) {
+                token.appendCodePoint(Character.toLowerCase(codePoint));
+            } else {
+                flush(token, tokens);
+            }
+        }
+        flush(token, tokens);
+        return tokens;
+    }
+
+    public static String normalize(String word) {
+        List<String> tokens = tokenize(word);
+        return tokens.size() == 1 ? tokens.getFirst() : null;
+    }
+
+    private static void flush(StringBuilder token, List<String> tokens) {
+        if (token.length() >= MIN_TOKEN_LENGTH && token.length() <= MAX_TOKEN_LENGTH) {
+            tokens.add(token.toString());
+        }
+        token.setLength(0);
+    }
+}
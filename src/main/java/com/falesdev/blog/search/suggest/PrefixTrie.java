@@ -0,0 +1,291 @@
+package com.falesdev.blog.search.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * Árbol radix (aristas con etiquetas de varios caracteres) para autocompletar.
+ * Cada nodo guarda en caché los mejores topK valores de su subárbol, así que una consulta
+ * solo recorre el prefijo y devuelve esa lista: el coste no depende del número de claves.
+ */
+public class PrefixTrie {
+
+    public record Entry(UUID id, String text, long weight) {
+    }
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::weight).reversed()
+            .thenComparing(Entry::text)
+            .thenComparing(Entry::id);
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private static final class Node {
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] values = NO_ENTRIES;
+        private Entry[] top = NO_ENTRIES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private final int topK;
+    private final Node root = new Node("");
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PrefixTrie(int topK) {
+        this.topK = topK;
+    }
+
+    // Minúsculas, sin acentos y con cualquier separador reducido a un espacio
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); ) {
+            int codePoint = decomposed.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.getType(codePoint) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                normalized.appendCodePoint(Character.toLowerCase(codePoint));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    // La clave completa y cada sufijo que empieza en una palabra, para sugerir también por palabras interiores
+    public static List<String> keys(String text, int maxWords) {
+        String normalized = normalize(text);
+        List<String> keys = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0 && keys.size() < maxWords; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    public void add(String normalizedKey, Entry entry) {
+        if (normalizedKey.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            path.add(root);
+            Node node = root;
+            int position = 0;
+            while (position < normalizedKey.length()) {
+                Node child = findChild(node, normalizedKey.charAt(position));
+                if (child == null) {
+                    child = new Node(normalizedKey.substring(position));
+                    addChild(node, child);
+                    node = child;
+                    path.add(node);
+                    break;
+                }
+
+                int common = commonPrefixLength(child.label, normalizedKey, position);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+                node = child;
+                path.add(node);
+                position += common;
+            }
+
+            node.values = Arrays.copyOf(node.values, node.values.length + 1);
+            node.values[node.values.length - 1] = entry;
+            for (Node onPath : path) {
+                onPath.top = insertTop(onPath.top, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String normalizedKey, UUID id) {
+        if (normalizedKey.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            path.add(root);
+            Node node = root;
+            int position = 0;
+            while (position < normalizedKey.length()) {
+                Node child = findChild(node, normalizedKey.charAt(position));
+                if (child == null) {
+                    return;
+                }
+                int common = commonPrefixLength(child.label, normalizedKey, position);
+                if (common < child.label.length()) {
+                    return;
+                }
+                node = child;
+                path.add(node);
+                position += common;
+            }
+
+            Entry[] remaining = Arrays.stream(node.values).filter(value -> !value.id().equals(id)).toArray(Entry[]::new);
+            if (remaining.length == node.values.length) {
+                return;
+            }
+            node.values = remaining;
+
+            // De abajo hacia arriba: podar/fusionar nodos vacíos y recalcular las cachés
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node current = path.get(i);
+                if (i > 0 && current.values.length == 0) {
+                    Node parent = path.get(i - 1);
+                    if (current.children.length == 0) {
+                        removeChild(parent, current);
+                        continue;
+                    }
+                    if (current.children.length == 1) {
+                        Node only = current.children[0];
+                        current.label = current.label + only.label;
+                        current.children = only.children;
+                        current.values = only.values;
+                        current.top = only.top;
+                        continue;
+                    }
+                }
+                current.top = computeTop(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Entry> search(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < normalizedPrefix.length()) {
+                Node child = findChild(node, normalizedPrefix.charAt(position));
+                if (child == null) {
+                    return List.of();
+                }
+                int common = commonPrefixLength(child.label, normalizedPrefix, position);
+                if (position + common < normalizedPrefix.length() && common < child.label.length()) {
+                    return List.of();
+                }
+                node = child;
+                position += common;
+            }
+
+            // Un mismo id puede aparecer por varias claves (título y sufijos)
+            List<Entry> results = new ArrayList<>(limit);
+            Set<UUID> seen = new HashSet<>();
+            for (Entry entry : node.top) {
+                if (results.size() == limit) {
+                    break;
+                }
+                if (seen.add(entry.id())) {
+                    results.add(entry);
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Entry[] insertTop(Entry[] top, Entry entry) {
+        int index = Arrays.binarySearch(top, entry, RANKING);
+        if (index >= 0) {
+            return top;
+        }
+        int insertion = -index - 1;
+        if (insertion >= topK) {
+            return top;
+        }
+        int size = Math.min(top.length + 1, topK);
+        Entry[] updated = new Entry[size];
+        System.arraycopy(top, 0, updated, 0, insertion);
+        updated[insertion] = entry;
+        System.arraycopy(top, insertion, updated, insertion + 1, size - insertion - 1);
+        return updated;
+    }
+
+    private Entry[] computeTop(Node node) {
+        List<Entry> candidates = new ArrayList<>(Arrays.asList(node.values));
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(RANKING);
+        return candidates.stream().limit(topK).toArray(Entry[]::new);
+    }
+
+    private static Node split(Node parent, Node child, int at) {
+        Node intermediate = new Node(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        intermediate.children = new Node[]{child};
+        intermediate.top = child.top;
+        replaceChild(parent, child, intermediate);
+        return intermediate;
+    }
+
+    private static Node findChild(Node node, char first) {
+        for (Node child : node.children) {
+            if (child.label.charAt(0) == first) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    private static void addChild(Node parent, Node child) {
+        parent.children = Arrays.copyOf(parent.children, parent.children.length + 1);
+        parent.children[parent.children.length - 1] = child;
+    }
+
+    private static void replaceChild(Node parent, Node oldChild, Node newChild) {
+        for (int i = 0; i < parent.children.length; i++) {
+            if (parent.children[i] == oldChild) {
+                parent.children[i] = newChild;
+                return;
+            }
+        }
+    }
+
+    private static void removeChild(Node parent, Node child) {
+        parent.children = Arrays.stream(parent.children).filter(c -> c != child).toArray(Node[]::new);
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+}
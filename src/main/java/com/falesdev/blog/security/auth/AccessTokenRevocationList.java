@@ -0,0 +1,146 @@
+package com.falesdev.blog.security.auth;
+
+import com.falesdev.blog.domain.entity.RevokedAccessToken;
+import com.falesdev.blog.repository.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Access tokens revocados por jti: filtro de Bloom delante de un conjunto exacto, persistidos en base de datos
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+    // Revocaciones hechas por otras instancias que confirmaron con un revokedAt algo anterior a la última sincronización
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile RevocationBloomFilter filter;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public AccessTokenRevocationList(
+            RevokedAccessTokenRepository revokedAccessTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${blog.security.access-token-revocation.expected-revocations:100000}") int expectedRevocations,
+            @Value("${blog.security.access-token-revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new RevocationBloomFilter(expectedRevocations, falsePositiveRate);
+        Gauge.builder("blog.auth.access-tokens.revoked", revoked, Map::size)
+                .description("Revoked access tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant now = Instant.now();
+        revokedAccessTokenRepository.findByExpiresAtAfter(now)
+                .forEach(token -> add(token.getJti(), token.getExpiresAt()));
+        lastSync = now;
+        log.info("Loaded {} revoked access tokens ({} KB filter)", revoked.size(), filter.sizeInBytes() / 1024);
+    }
+
+    // Camino de cada petición: casi siempre termina en el filtro sin consultar el mapa
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        UUID id;
+        try {
+            id = UUID.fromString(jti);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return filter.mightContain(id) && revoked.containsKey(id);
+    }
+
+    @Transactional
+    public void revoke(UUID jti, UUID userId, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                .jti(jti)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .revokedAt(now)
+                .build());
+        // En memoria solo tras el commit: si la transacción se deshace, la revocación no existe en ningún nodo
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(jti, expiresAt);
+                }
+            });
+        } else {
+            add(jti, expiresAt);
+        }
+    }
+
+    // Recoge lo revocado en otras instancias y poda lo caducado, en memoria y en la tabla
+    @Scheduled(
+            initialDelayString = "${blog.security.access-token-revocation.sync-interval-ms:30000}",
+            fixedDelayString = "${blog.security.access-token-revocation.sync-interval-ms:30000}")
+    @Transactional
+    public void sync() {
+        Instant now = Instant.now();
+        revokedAccessTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(lastSync.minus(SYNC_OVERLAP), now)
+                .forEach(token -> add(token.getJti(), token.getExpiresAt()));
+        lastSync = now;
+
+        if (revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+            writeLock.lock();
+            try {
+                rebuild();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        revokedAccessTokenRepository.deleteExpired(now);
+    }
+
+    private void add(UUID jti, Instant expiresAt) {
+        writeLock.lock();
+        try {
+            revoked.put(jti, expiresAt);
+            if (revoked.size() > filter.capacity()) {
+                rebuild();
+            } else {
+                filter.put(jti);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Se llama con writeLock: ninguna revocación puede quedar fuera del filtro nuevo
+    private void rebuild() {
+        int capacity = Math.max(expectedRevocations, revoked.size() * 2);
+        RevocationBloomFilter rebuilt = new RevocationBloomFilter(capacity, falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+}
@@ -0,0 +1,62 @@
+package com.falesdev.blog.security.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Function;
+
+@Component
+public class PrincipalCache {
+
+    private final Cache<PrincipalKey, UserDetails> cache;
+
+    public PrincipalCache(
+            @Value("${blog.security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${blog.security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.principals");
+    }
+
+    public UserDetails get(String subject, Date issuedAt, Function<String, UserDetails> loader) {
+        PrincipalKey key = new PrincipalKey(subject, issuedAt != null ? issuedAt.getTime() : 0L);
+        return cache.get(key, k -> loader.apply(k.subject()));
+    }
+
+    // Se invalida de inmediato y otra vez tras el commit, para no recargar datos aún no confirmados
+    public void invalidate(String subject) {
+        evict(subject);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(subject);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private void evict(String subject) {
+        cache.asMap().keySet().removeIf(key -> key.subject().equalsIgnoreCase(subject));
+    }
+
+    private record PrincipalKey(String subject, long issuedAt) {
+    }
+}
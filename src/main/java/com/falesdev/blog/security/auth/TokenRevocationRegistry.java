@@ -0,0 +1,110 @@
+package com.falesdev.blog.security.auth;
+
+import com.falesdev.blog.domain.entity.TokenRevocation;
+import com.falesdev.blog.repository.TokenRevocationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Locale;
+
+// Revocación por usuario ("todo lo emitido antes de"), persistida y sincronizada entre instancias igual que AccessTokenRevocationList
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final Duration tokenLifetime;
+
+    // Solo hace falta recordar la revocación mientras un token emitido antes pueda seguir vigente
+    private final Cache<String, Instant> revokedBefore;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationRegistry(
+            TokenRevocationRepository tokenRevocationRepository,
+            @Value("${jwt.expiration-ms}") long jwtExpiryMs) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.tokenLifetime = Duration.ofMillis(jwtExpiryMs);
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(tokenLifetime)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant now = Instant.now();
+        tokenRevocationRepository.findByExpiresAtAfter(now)
+                .forEach(revocation -> merge(revocation.getSubject(), revocation.getRevokedBefore()));
+        lastSync = now;
+        log.info("Loaded {} user token revocations", revokedBefore.estimatedSize());
+    }
+
+    @Transactional
+    public void revokeIssuedBefore(String subject, Instant revokedAt) {
+        String key = normalize(subject);
+        TokenRevocation revocation = tokenRevocationRepository.findById(key)
+                .orElseGet(() -> TokenRevocation.builder().subject(key).build());
+        if (revocation.getRevokedBefore() == null || revokedAt.isAfter(revocation.getRevokedBefore())) {
+            revocation.setRevokedBefore(revokedAt);
+            revocation.setExpiresAt(revokedAt.plus(tokenLifetime));
+            tokenRevocationRepository.save(revocation);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    merge(key, revokedAt);
+                }
+            });
+        } else {
+            merge(key, revokedAt);
+        }
+    }
+
+    public boolean isRevoked(String subject, Date issuedAt) {
+        if (subject == null) {
+            return false;
+        }
+        Instant revokedAt = revokedBefore.getIfPresent(normalize(subject));
+        return revokedAt != null && (issuedAt == null || !issuedAt.toInstant().isAfter(revokedAt));
+    }
+
+    // Recoge lo revocado en otras instancias y borra las filas que ya no afectan a ningún token vigente
+    @Scheduled(
+            initialDelayString = "${blog.security.access-token-revocation.sync-interval-ms:30000}",
+            fixedDelayString = "${blog.security.access-token-revocation.sync-interval-ms:30000}")
+    @Transactional
+    public void sync() {
+        Instant now = Instant.now();
+        tokenRevocationRepository.findByRevokedBeforeAfterAndExpiresAtAfter(lastSync.minus(SYNC_OVERLAP), now)
+                .forEach(revocation -> merge(revocation.getSubject(), revocation.getRevokedBefore()));
+        lastSync = now;
+        tokenRevocationRepository.deleteExpired(now);
+    }
+
+    private void merge(String key, Instant revokedAt) {
+        revokedBefore.asMap().merge(
+                key,
+                revokedAt,
+                (current, candidate) -> candidate.isAfter(current) ? candidate : current
+        );
+    }
+
+    private String normalize(String subject) {
+        return subject.toLowerCase(Locale.ROOT);
+    }
+}
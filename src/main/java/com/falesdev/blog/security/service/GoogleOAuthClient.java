@@ -0,0 +1,248 @@
+package com.falesdev.blog.security.service;
+
+import com.falesdev.blog.exception.AuthenticationException;
+import com.falesdev.blog.exception.ExternalServiceException;
+import com.falesdev.blog.exception.ServiceUnavailableException;
+import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeTokenRequest;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Llamadas a Google para el login: intercambio del código y verificación del ID token.
+ * Un único transporte con pool, timeouts acotados, un máximo de llamadas simultáneas y un circuit breaker:
+ * si Google responde lento o falla, las peticiones se rechazan al momento en lugar de ocupar hilos.
+ * Los certificados se descargan en segundo plano y se publican con un verificador nuevo, así que
+ * verificar un token nunca espera a la red.
+ */
+@Slf4j
+@Component
+public class GoogleOAuthClient {
+
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+
+    private final HttpTransport httpTransport;
+    private final HttpRequestInitializer timeouts;
+    private final String tokenUri;
+    private final String certsUri;
+    private final List<String> issuers;
+    private final String clientId;
+    private final String clientSecret;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private volatile long openUntil;
+    private volatile GoogleIdTokenVerifier verifier;
+
+    private final Timer tokenTimer;
+    private final Counter rejected;
+
+    public GoogleOAuthClient(
+            HttpTransport googleHttpTransport,
+            MeterRegistry meterRegistry,
+            @Value("${google.client.web.id}") String clientId,
+            @Value("${google.client.web.secret:}") String clientSecret,
+            @Value("${google.oauth.token-uri:https://oauth2.googleapis.com/token}") String tokenUri,
+            @Value("${google.oauth.certs-uri:https://www.googleapis.com/oauth2/v1/certs}") String certsUri,
+            @Value("${google.oauth.issuers:https://accounts.google.com,accounts.google.com}") List<String> issuers,
+            @Value("${google.oauth.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${google.oauth.read-timeout-ms:3000}") int readTimeoutMs,
+            @Value("${google.oauth.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${google.oauth.acquire-timeout-ms:200}") long acquireTimeoutMs,
+            @Value("${google.oauth.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${google.oauth.circuit-breaker.open-duration-ms:30000}") long openDurationMs) {
+        if (clientId == null || clientId.isBlank()) {
+            throw new IllegalStateException("Google Web Client ID not configured");
+        }
+        this.httpTransport = googleHttpTransport;
+        this.timeouts = request -> request.setConnectTimeout(connectTimeoutMs).setReadTimeout(readTimeoutMs);
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.tokenUri = tokenUri;
+        this.certsUri = certsUri;
+        this.issuers = issuers;
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.verifier = newVerifier(newKeysManager());
+
+        this.tokenTimer = Timer.builder("blog.auth.google.token")
+                .description("Authorization code exchanges against Google's token endpoint")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("blog.auth.google.rejected")
+                .description("Google calls refused by the circuit breaker or the concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("blog.auth.google.circuit.open", this, client -> client.isOpen() ? 1 : 0)
+                .description("1 while the Google circuit breaker is open")
+                .register(meterRegistry);
+    }
+
+    public GoogleTokenResponse exchangeCode(String code) {
+        return call(() -> tokenTimer.recordCallable(() -> new GoogleAuthorizationCodeTokenRequest(
+                httpTransport,
+                JSON_FACTORY,
+                tokenUri,
+                clientId,
+                clientSecret,
+                code,
+                "postmessage"
+        ).setRequestInitializer(timeouts).execute()));
+    }
+
+    // Normalmente local: los certificados ya están en memoria gracias a refreshCertificates
+    public GoogleIdToken.Payload verify(String idToken) {
+        GoogleIdTokenVerifier current = verifier;
+        GoogleIdToken token;
+        try {
+            token = current.verify(idToken);
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            throw new AuthenticationException("Token validation failed", e);
+        } catch (IOException e) {
+            throw new ExternalServiceException("Error fetching Google certificates", e);
+        }
+        if (token == null) {
+            throw new AuthenticationException("Invalid token");
+        }
+        return token.getPayload();
+    }
+
+    // Primera ejecución al arrancar el scheduler, fuera del hilo principal
+    @Scheduled(fixedDelayString = "${google.oauth.certs-refresh-ms:3600000}")
+    public void refreshCertificates() {
+        GooglePublicKeysManager keysManager = newKeysManager();
+        try {
+            call(() -> {
+                keysManager.refresh();
+                return null;
+            });
+            verifier = newVerifier(keysManager);
+        } catch (RuntimeException e) {
+            // Se sigue con los certificados anteriores; el verificador los descargará si caducan
+            log.warn("Could not refresh Google certificates from {}", certsUri, e);
+        }
+    }
+
+    boolean isOpen() {
+        return openUntil > System.currentTimeMillis();
+    }
+
+    private <T> T call(Callable<T> operation) {
+        boolean probe = enterCircuit();
+        try {
+            if (!acquirePermit()) {
+                rejected.increment();
+                throw unavailable(0);
+            }
+            try {
+                T result = operation.call();
+                onSuccess();
+                return result;
+            } catch (HttpResponseException e) {
+                if (e.getStatusCode() >= 400 && e.getStatusCode() < 500) {
+                    // Google respondió: el código no es válido, no es un fallo del servicio
+                    onSuccess();
+                    throw new AuthenticationException("Invalid authorization code", e);
+                }
+                onFailure();
+                throw new ExternalServiceException("Error calling Google", e);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                onFailure();
+                throw new ExternalServiceException("Error calling Google", e);
+            } finally {
+                permits.release();
+            }
+        } finally {
+            if (probe) {
+                probing.set(false);
+            }
+        }
+    }
+
+    // Abierto: todo se rechaza hasta que vence el plazo; después pasa una única llamada de prueba
+    private boolean enterCircuit() {
+        long until = openUntil;
+        if (until == 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (now < until || !probing.compareAndSet(false, true)) {
+            rejected.increment();
+            throw unavailable(until - now);
+        }
+        return true;
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (openUntil != 0) {
+            openUntil = 0;
+            log.info("Google circuit breaker closed");
+        }
+    }
+
+    private void onFailure() {
+        // Un fallo de la llamada de prueba vuelve a abrir sin esperar al umbral
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold || openUntil != 0) {
+            openUntil = System.currentTimeMillis() + openDurationMs;
+            log.warn("Google circuit breaker open for {} ms after {} consecutive failures",
+                    openDurationMs, consecutiveFailures.get());
+        }
+    }
+
+    private static ServiceUnavailableException unavailable(long retryAfterMs) {
+        return new ServiceUnavailableException("Google sign-in is temporarily unavailable",
+                Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMs + 999)));
+    }
+
+    private GooglePublicKeysManager newKeysManager() {
+        return new GooglePublicKeysManager.Builder(httpTransport, JSON_FACTORY)
+                .setPublicCertsEncodedUrl(certsUri)
+                .build();
+    }
+
+    private GoogleIdTokenVerifier newVerifier(GooglePublicKeysManager keysManager) {
+        return new GoogleIdTokenVerifier.Builder(keysManager)
+                .setAudience(List.of(clientId))
+                .setIssuers(issuers)
+                .build();
+    }
+}
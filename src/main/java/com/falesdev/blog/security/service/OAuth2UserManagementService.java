@@ -7,10 +7,12 @@ import com.falesdev.blog.exception.AuthenticationMethodConflictException;
 import com.falesdev.blog.exception.BadRequestException;
 import com.falesdev.blog.repository.RoleRepository;
 import com.falesdev.blog.repository.UserRepository;
+import com.falesdev.blog.security.auth.PrincipalCache;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -21,7 +23,9 @@ public class OAuth2UserManagementService {
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
+    private final PrincipalCache principalCache;
 
+    @Transactional
     public User createOrUpdateUserFromGoogle(GoogleIdToken.Payload payload) {
         String email = payload.getEmail();
         String firstName = (String) payload.get("given_name");
@@ -52,6 +56,7 @@ public class OAuth2UserManagementService {
                     existingUser.setFirstName(firstName);
                     existingUser.setLastName(lastName);
                     existingUser.setImageURL(picture);
+                    principalCache.invalidate(email);
                     return userRepository.save(existingUser);
                 })
                 .orElseGet(() -> userRepository.save(
@@ -13,5 +13,6 @@ public interface AuthenticationService {
     AuthResponse register(RegisterRequest registerRequest);
     AuthResponse handleGoogleAuth(String code);
     UserDetails validateToken(String token);
+    void logout(String accessToken, String refreshToken);
     AuthUserResponse getUserProfile(BlogUserDetails userDetails);
 }
@@ -1,6 +1,10 @@
 package com.falesdev.blog.service;
 
+import com.falesdev.blog.domain.entity.EmailOutbox;
+import jakarta.mail.internet.MimeMessage;
+
 public interface EmailService {
 
-    void sendWelcomeEmail(String to, String name);
+    void queueWelcomeEmail(String to, String name);
+    MimeMessage buildMessage(EmailOutbox email);
 }
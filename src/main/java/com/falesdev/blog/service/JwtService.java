@@ -4,6 +4,7 @@ import io.jsonwebtoken.Claims;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.security.Key;
+import java.util.UUID;
 
 public interface JwtService {
 
@@ -11,7 +12,7 @@ public interface JwtService {
     long getExpirationTime(String token);
     Key getSigningKey();
     String generateAccessToken(UserDetails userDetails);
-    String generateRefreshToken(UserDetails userDetails);
+    String generateRefreshToken(UserDetails userDetails, UUID familyId);
     long getJwtExpirationMs();
     long getRefreshExpirationMs();
 }
@@ -1,20 +1,28 @@
 package com.falesdev.blog.service;
 
 import com.falesdev.blog.domain.dto.PostDto;
+import com.falesdev.blog.domain.dto.PostSearchResultDto;
+import com.falesdev.blog.domain.dto.PostSummaryDto;
+import com.falesdev.blog.domain.dto.PostVersionDto;
 import com.falesdev.blog.domain.dto.request.CreatePostRequestDto;
 import com.falesdev.blog.domain.dto.request.UpdatePostRequestDto;
+import com.falesdev.blog.domain.dto.response.CursorPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 
+import java.util.List;
 import java.util.UUID;
 
 public interface PostService {
 
     PostDto getPost(UUID id);
-    Page<PostDto> getAllPosts(UUID categoryId, UUID tagId, Pageable pageable);
-    Page<PostDto> getDraftPosts(UUID userId, Pageable pageable);
-    Page<PostDto> getAllPostsbyTitle(String title, Pageable pageable);
+    PostVersionDto getPostVersion(UUID id);
+    Page<PostSummaryDto> getAllPosts(UUID categoryId, UUID tagId, Pageable pageable);
+    CursorPageResponse<PostSummaryDto> getPostFeed(UUID categoryId, UUID tagId, String cursor, int size);
+    Page<PostSummaryDto> getDraftPosts(UUID userId, Pageable pageable);
+    Page<PostSearchResultDto> searchPosts(String query, Pageable pageable);
+    List<PostSummaryDto> getTrendingPosts(int limit);
     PostDto createPost(UUID id, CreatePostRequestDto createPostRequestDto);
     PostDto updatePost(UUID id, UpdatePostRequestDto updatePostRequestDto);
     void deletePost(UUID id);
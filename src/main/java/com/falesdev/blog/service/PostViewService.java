@@ -0,0 +1,9 @@
+package com.falesdev.blog.service;
+
+import java.util.UUID;
+
+public interface PostViewService {
+    void recordView(UUID postId);
+    long getPendingViews(UUID postId);
+    int flush();
+}
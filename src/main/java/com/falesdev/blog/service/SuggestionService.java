@@ -0,0 +1,7 @@
+package com.falesdev.blog.service;
+
+import com.falesdev.blog.domain.dto.response.SuggestionsResponse;
+
+public interface SuggestionService {
+    SuggestionsResponse suggest(String prefix, int limit);
+}
@@ -0,0 +1,9 @@
+package com.falesdev.blog.service;
+
+import com.falesdev.blog.domain.TextStatistics;
+
+public interface TextStatisticsService {
+    TextStatistics analyze(String content);
+    int countWords(CharSequence content);
+    int calculateReadingTime(CharSequence content);
+}
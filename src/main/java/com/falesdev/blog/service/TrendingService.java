@@ -0,0 +1,8 @@
+package com.falesdev.blog.service;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TrendingService {
+    List<UUID> getTrendingPostIds(int limit);
+}
@@ -14,4 +14,5 @@ public interface UserService {
     UserDto createUser(CreateUserRequestDto userDto);
     UserDto updateUser(UUID id, UpdateUserRequestDto userDto);
     void deleteUser(UUID id);
+    void revokeTokens(UUID id);
 }
@@ -7,24 +7,22 @@ import com.falesdev.blog.domain.dto.RoleDto;
 import com.falesdev.blog.domain.dto.request.RegisterRequest;
 import com.falesdev.blog.domain.entity.Role;
 import com.falesdev.blog.domain.entity.User;
-import com.falesdev.blog.exception.AuthenticationException;
 import com.falesdev.blog.exception.EmailAlreadyExistsException;
-import com.falesdev.blog.exception.ExternalServiceException;
 import com.falesdev.blog.mapper.RoleMapper;
 import com.falesdev.blog.repository.RoleRepository;
 import com.falesdev.blog.repository.UserRepository;
 import com.falesdev.blog.security.BlogUserDetails;
+import com.falesdev.blog.security.auth.AccessTokenRevocationList;
+import com.falesdev.blog.security.auth.PrincipalCache;
+import com.falesdev.blog.security.auth.TokenRevocationRegistry;
+import com.falesdev.blog.security.service.GoogleOAuthClient;
 import com.falesdev.blog.security.service.OAuth2UserManagementService;
 import com.falesdev.blog.service.AuthenticationService;
 import com.falesdev.blog.service.EmailService;
 import com.falesdev.blog.service.JwtService;
 import com.falesdev.blog.service.RefreshTokenService;
-import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeTokenRequest;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
@@ -43,10 +41,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.IOException;
-import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -63,16 +63,16 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final RefreshTokenService refreshTokenService;
     private final RoleMapper roleMapper;
     private final OAuth2UserManagementService oAuth2UserManagementService;
-    private final GoogleIdTokenVerifier verifier;
+    private final GoogleOAuthClient googleOAuthClient;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
-    @Value("${google.client.web.id}")
-    private String clientId;
-
-    @Value("${google.client.web.secret}")
-    private String clientSecret;
+    @Value("${blog.security.stateless.enabled:false}")
+    private boolean statelessAuth;
 
+    // Sin transacción propia: no se retiene una conexión mientras se verifica la contraseña
     @Override
-    @Transactional
     public AuthResponse authenticate(String email, String password) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(email,password)
@@ -81,8 +81,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         BlogUserDetails userDetails = (BlogUserDetails) authentication.getPrincipal();
 
         String accessToken = jwtService.generateAccessToken(userDetails);
-        String refreshToken = refreshTokenService.createRefreshToken(userDetails.getId()).getToken();
-        long expiresIn = jwtService.getExpirationTime(accessToken) / 1000;
+        String refreshToken = refreshTokenService.createRefreshToken(userDetails.getId());
+        long expiresIn = jwtService.getJwtExpirationMs() / 1000;
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
@@ -114,15 +114,15 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         newUser.getRoles().add(userRole);
         userRepository.save(newUser);
 
-        emailService.sendWelcomeEmail(newUser.getEmail(), newUser.getFirstName());
+        emailService.queueWelcomeEmail(newUser.getEmail(), newUser.getFirstName());
         return generateAuthResponse(newUser);
     }
 
+    // Sin transacción propia: las llamadas a Google no retienen una conexión a la base de datos
     @Override
-    @Transactional
     public AuthResponse handleGoogleAuth(String code) {
-        GoogleTokenResponse tokenResponse = exchangeCodeForTokens(code);
-        GoogleIdToken.Payload payload = validateIdToken(tokenResponse.getIdToken());
+        GoogleTokenResponse tokenResponse = googleOAuthClient.exchangeCode(code);
+        GoogleIdToken.Payload payload = googleOAuthClient.verify(tokenResponse.getIdToken());
         User user = oAuth2UserManagementService.createOrUpdateUserFromGoogle(payload);
         return generateAuthResponse(user);
     }
@@ -131,20 +131,66 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     public UserDetails validateToken(String token) {
         try {
             final Claims claims = jwtService.parseClaims(token);
+            if (!isAccessToken(claims)) {
+                throw new JwtException("Not an access token");
+            }
             final String username = claims.getSubject();
+            final Date issuedAt = issuedAt(claims);
 
-            return userDetailsService.loadUserByUsername(username);
+            if (accessTokenRevocationList.isRevoked(claims.getId())
+                    || tokenRevocationRegistry.isRevoked(username, issuedAt)) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token revoked");
+            }
+            if (statelessAuth) {
+                return principalFromClaims(claims);
+            }
+            return principalCache.get(username, issuedAt, userDetailsService::loadUserByUsername);
         } catch (ExpiredJwtException ex) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token expired", ex);
-        } catch (JwtException | UsernameNotFoundException ex) {
+        } catch (JwtException | UsernameNotFoundException | IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication error", ex);
         }
     }
 
+    @Override
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        Claims claims;
+        UUID userId;
+        try {
+            claims = jwtService.parseClaims(accessToken);
+            if (!isAccessToken(claims)) {
+                throw new JwtException("Not an access token");
+            }
+            String userIdClaim = claims.get("userId", String.class);
+            if (userIdClaim == null) {
+                throw new JwtException("Token without identity claims");
+            }
+            userId = UUID.fromString(userIdClaim);
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication error", ex);
+        }
+
+        // El refresh token se valida antes de revocar nada: si no es válido o es de otro usuario, no cambia nada
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken, userId);
+        }
+        if (claims.getId() != null) {
+            accessTokenRevocationList.revoke(
+                    UUID.fromString(claims.getId()),
+                    userId,
+                    claims.getExpiration().toInstant());
+        } else {
+            // Tokens emitidos antes de incluir jti: solo se pueden invalidar todos los del usuario
+            tokenRevocationRegistry.revokeIssuedBefore(claims.getSubject(), Instant.now());
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public AuthUserResponse getUserProfile(BlogUserDetails userDetails) {
-        User user = userDetails.getUser();
+        User user = userRepository.findById(userDetails.getId())
+                .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
         Set<RoleDto> roles = user.getRoles().stream()
                 .map(roleMapper::toDto)
@@ -160,44 +206,41 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         );
     }
 
-    private GoogleTokenResponse exchangeCodeForTokens(String code) {
-        try {
-            return new GoogleAuthorizationCodeTokenRequest(
-                    new NetHttpTransport(),
-                    GsonFactory.getDefaultInstance(),
-                    "https://oauth2.googleapis.com/token",
-                    clientId,
-                    clientSecret,
-                    code,
-                    "postmessage"
-            ).execute();
-        } catch (IOException e) {
-            throw new ExternalServiceException("Error exchanging code", e);
-        }
+    // Un refresh token está firmado con la misma clave; los emitidos antes de typ se reconocen por fid
+    private static boolean isAccessToken(Claims claims) {
+        String type = claims.get("typ", String.class);
+        return type != null ? type.equals("access") : claims.get("fid") == null;
     }
 
-    private GoogleIdToken.Payload validateIdToken(String idToken) {
-        try {
-            GoogleIdToken idTokenObj = verifier.verify(idToken);
-            if (idTokenObj == null) throw new AuthenticationException("Invalid token");
-
-            GoogleIdToken.Payload payload = idTokenObj.getPayload();
+    // Los tokens emitidos antes de iat_ms solo tienen iat, en segundos
+    private static Date issuedAt(Claims claims) {
+        Long issuedAtMs = claims.get("iat_ms", Long.class);
+        return issuedAtMs != null ? new Date(issuedAtMs) : claims.getIssuedAt();
+    }
 
-            if (!payload.getIssuer().equals("https://accounts.google.com")
-                    && !payload.getIssuer().equals("accounts.google.com")) {
-                throw new AuthenticationException("Invalid token issuer");
-            }
-            return payload;
-        } catch (GeneralSecurityException | IOException e) {
-            throw new AuthenticationException("Token validation failed", e);
+    private BlogUserDetails principalFromClaims(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        List<?> roleNames = claims.get("role", List.class);
+        if (userId == null || roleNames == null) {
+            throw new JwtException("Token without identity claims");
         }
+
+        Set<Role> roles = roleNames.stream()
+                .map(name -> Role.builder().name(String.valueOf(name)).build())
+                .collect(Collectors.toSet());
+
+        return new BlogUserDetails(User.builder()
+                .id(UUID.fromString(userId))
+                .email(claims.getSubject())
+                .roles(roles)
+                .build());
     }
 
     private AuthResponse generateAuthResponse(User user) {
         BlogUserDetails userDetails = new BlogUserDetails(user);
         String accessToken = jwtService.generateAccessToken(userDetails);
-        String refreshToken = refreshTokenService.createRefreshToken(user.getId()).getToken();
-        long expiresIn = jwtService.getExpirationTime(accessToken) / 1000;
+        String refreshToken = refreshTokenService.createRefreshToken(user.getId());
+        long expiresIn = jwtService.getJwtExpirationMs() / 1000;
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
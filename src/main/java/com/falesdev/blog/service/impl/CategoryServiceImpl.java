@@ -25,9 +25,7 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     @Transactional(readOnly = true)
     public List<CategoryDto> listCategories() {
-        return categoryRepository.findAllWithPostCount().stream()
-                .map(categoryMapper::toDto)
-                .toList();
+        return categoryRepository.findAllWithPostCount();
     }
 
     @Override
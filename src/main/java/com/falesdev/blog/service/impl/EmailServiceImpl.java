@@ -1,6 +1,10 @@
 package com.falesdev.blog.service.impl;
 
+import com.falesdev.blog.domain.EmailStatus;
+import com.falesdev.blog.domain.EmailType;
+import com.falesdev.blog.domain.entity.EmailOutbox;
 import com.falesdev.blog.exception.EmailException;
+import com.falesdev.blog.repository.EmailOutboxRepository;
 import com.falesdev.blog.service.EmailService;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -8,11 +12,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import java.time.Instant;
+
 @Service
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
@@ -21,10 +27,32 @@ public class EmailServiceImpl implements EmailService {
     @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
     private final JavaMailSender mailSender;
     private final SpringTemplateEngine templateEngine;
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    // Se une a la transacción del registro: el correo existe si y solo si el usuario existe
+    @Override
+    @Transactional
+    public void queueWelcomeEmail(String to, String name) {
+        Instant now = Instant.now();
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .type(EmailType.WELCOME)
+                .recipient(to)
+                .recipientName(name)
+                .status(EmailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
 
-    @Async
     @Override
-    public void sendWelcomeEmail(String to, String name) {
+    public MimeMessage buildMessage(EmailOutbox email) {
+        return switch (email.getType()) {
+            case WELCOME -> buildWelcomeEmail(email.getRecipient(), email.getRecipientName());
+        };
+    }
+
+    private MimeMessage buildWelcomeEmail(String to, String name) {
         MimeMessage message = mailSender.createMimeMessage();
 
         try {
@@ -43,9 +71,9 @@ public class EmailServiceImpl implements EmailService {
             ClassPathResource logo = new ClassPathResource("static/logo.png");
             helper.addInline("logo", logo);
 
-            mailSender.send(message);
+            return message;
         } catch (MessagingException e) {
-            throw new EmailException("Error sending welcome email");
+            throw new EmailException("Error building welcome email", e);
         }
     }
 }
@@ -4,11 +4,15 @@ import com.falesdev.blog.domain.entity.Role;
 import com.falesdev.blog.security.BlogUserDetails;
 import com.falesdev.blog.service.JwtService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,7 +21,10 @@ import org.springframework.stereotype.Service;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,20 +34,60 @@ public class JwtServiceImpl implements JwtService {
     @Value("${jwt.secret}")
     private String secretKey;
 
+    @Value("${jwt.key-id:primary}")
+    private String signingKeyId;
+
+    // Claves anteriores aún aceptadas al verificar: "kid1:base64Secret,kid2:base64Secret"
+    @Value("${jwt.verification-keys:}")
+    private String verificationKeys;
+
     @Value("${jwt.expiration-ms}")
     private Long jwtExpiryMs;
 
     @Value("${jwt.refresh-expiration-ms}")
     private Long refreshExpiryMs;
 
+    @Value("${blog.security.stateless.enabled:false}")
+    private boolean statelessAuth;
+
+    @Value("${blog.security.stateless.access-token-expiration-ms:900000}")
+    private long statelessExpiryMs;
+
+    private Key signingKey;
+    private Map<String, Key> keysById;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = decodeKey(secretKey);
+
+        Map<String, Key> keys = new HashMap<>();
+        keys.put(signingKeyId, signingKey);
+        if (verificationKeys != null && !verificationKeys.isBlank()) {
+            for (String entry : verificationKeys.split(",")) {
+                String[] parts = entry.trim().split(":", 2);
+                if (parts.length != 2 || parts[0].isBlank()) {
+                    throw new IllegalStateException("Invalid jwt.verification-keys entry, expected kid:base64Secret");
+                }
+                keys.putIfAbsent(parts[0].trim(), decodeKey(parts[1].trim()));
+            }
+        }
+        keysById = Map.copyOf(keys);
+
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
     @Override
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SignatureException e) {
             throw new JwtException("Invalid JWT signature", e);
         }
@@ -54,8 +101,7 @@ public class JwtServiceImpl implements JwtService {
 
     @Override
     public Key getSigningKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     @Override
@@ -66,35 +112,64 @@ public class JwtServiceImpl implements JwtService {
                 .map(Role::getName)
                 .collect(Collectors.toSet());
 
+        // jti permite revocar este token concreto (logout) sin afectar a las demás sesiones.
+        // iat va en segundos; iat_ms distingue un token emitido justo después de una revocación en el mismo segundo
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyId)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(blogUser.getUsername())
                 .claim("userId", blogUser.getId())
+                .claim("typ", "access")
                 .claim("role", roleNames)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiryMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .claim("iat_ms", now)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + getJwtExpirationMs()))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     @Override
-    public String generateRefreshToken(UserDetails userDetails) {
+    public String generateRefreshToken(UserDetails userDetails, UUID familyId) {
         BlogUserDetails collegeUser = (BlogUserDetails) userDetails;
 
+        // jti hace único cada token aunque se emitan dos en el mismo segundo; typ impide usarlo como Bearer
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyId)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(collegeUser.getUsername())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + refreshExpiryMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .claim("userId", collegeUser.getId())
+                .claim("typ", "refresh")
+                .claim("fid", familyId)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + refreshExpiryMs))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     @Override
     public long getJwtExpirationMs() {
-        return jwtExpiryMs;
+        return statelessAuth ? Math.min(statelessExpiryMs, jwtExpiryMs) : jwtExpiryMs;
     }
 
     @Override
     public long getRefreshExpirationMs() {
         return refreshExpiryMs;
     }
+
+    private Key resolveVerificationKey(String keyId) {
+        if (keyId == null) {
+            return signingKey;
+        }
+        Key key = keysById.get(keyId);
+        if (key == null) {
+            throw new SignatureException("Unknown JWT signing key: " + keyId);
+        }
+        return key;
+    }
+
+    private static Key decodeKey(String base64Secret) {
+        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(base64Secret));
+    }
 }
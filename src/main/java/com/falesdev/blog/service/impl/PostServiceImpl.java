@@ -1,30 +1,51 @@
 package com.falesdev.blog.service.impl;
 
+import com.falesdev.blog.domain.PostCursor;
 import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.TextStatistics;
+import com.falesdev.blog.domain.dto.AuthorDto;
+import com.falesdev.blog.domain.dto.CategoryDto;
 import com.falesdev.blog.domain.dto.PostDto;
+import com.falesdev.blog.domain.dto.PostSearchResultDto;
+import com.falesdev.blog.domain.dto.PostSummaryDto;
+import com.falesdev.blog.domain.dto.PostVersionDto;
+import com.falesdev.blog.domain.dto.TagDto;
 import com.falesdev.blog.domain.dto.request.CreatePostRequestDto;
 import com.falesdev.blog.domain.dto.request.UpdatePostRequestDto;
+import com.falesdev.blog.domain.dto.response.CursorPageResponse;
 import com.falesdev.blog.domain.entity.Category;
 import com.falesdev.blog.domain.entity.Post;
 import com.falesdev.blog.domain.entity.Tag;
 import com.falesdev.blog.domain.entity.User;
+import com.falesdev.blog.domain.projection.PostSummaryRow;
+import com.falesdev.blog.domain.projection.PostTagRow;
+import com.falesdev.blog.domain.projection.PostVersionRow;
+import com.falesdev.blog.event.PostChangedEvent;
 import com.falesdev.blog.mapper.PostMapper;
 import com.falesdev.blog.repository.CategoryRepository;
 import com.falesdev.blog.repository.PostRepository;
 import com.falesdev.blog.repository.UserRepository;
+import com.falesdev.blog.search.PostSearchEngine;
+import com.falesdev.blog.search.PostSearchHit;
 import com.falesdev.blog.service.PostService;
+import com.falesdev.blog.service.PostViewService;
 import com.falesdev.blog.service.TagService;
+import com.falesdev.blog.service.TextStatisticsService;
+import com.falesdev.blog.service.TrendingService;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,60 +57,137 @@ public class PostServiceImpl implements PostService {
     private final UserRepository userRepository;
     private final PostMapper postMapper;
     private final CategoryRepository categoryRepository;
+    private final TextStatisticsService textStatisticsService;
+    private final PostSearchEngine postSearchEngine;
+    private final PostViewService postViewService;
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
-    private static final int WORDS_PER_MINUTE = 200;
+    private static final int MAX_FEED_SIZE = 100;
 
     @Override
     @Transactional(readOnly = true)
     public PostDto getPost(UUID id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Post does not exist"));
-        return postMapper.toDto(post);
+        PostDto postDto = postMapper.toDto(post);
+        // Lo persistido más lo que aún no se ha volcado
+        postDto.setViewCount(post.getViewCount() + postViewService.getPendingViews(id));
+        return postDto;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PostDto> getAllPosts(UUID categoryId, UUID tagId, Pageable pageable) {
+    public PostVersionDto getPostVersion(UUID id) {
+        PostVersionRow row = postRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Post does not exist"));
+        return new PostVersionDto(
+                row.updateAt(),
+                new AuthorDto(row.authorId(), row.authorFirstName(), row.authorLastName()),
+                new CategoryDto(row.categoryId(), row.categoryName(), row.categoryPostCount()),
+                postRepository.findTagsByPostId(id).stream()
+                        .map(tag -> TagDto.builder().id(tag.tagId()).name(tag.tagName()).build())
+                        .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDto> getAllPosts(UUID categoryId, UUID tagId, Pageable pageable) {
         if(categoryId != null) {
             Category category = categoryRepository.findById(categoryId)
                     .orElseThrow(() -> new EntityNotFoundException("Category not found"));
-            return postRepository.findAllByStatusAndCategory(
+            return loadPostPage(postRepository.findIdsByStatusAndCategory(
                     PostStatus.PUBLISHED,
                     category,
                     pageable
-            ).map(postMapper::toDto);
+            ));
         }
 
         if(tagId != null) {
             Tag tag = tagService.getTagById(tagId);
-            return postRepository.findAllByStatusAndTag(
+            return loadPostPage(postRepository.findIdsByStatusAndTag(
                     PostStatus.PUBLISHED,
                     tag,
                     pageable
-            ).map(postMapper::toDto);
+            ));
+        }
+
+        return loadPostPage(postRepository.findIdsByStatus(PostStatus.PUBLISHED, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostSummaryDto> getPostFeed(UUID categoryId, UUID tagId, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_FEED_SIZE);
+        PostCursor after = (cursor == null || cursor.isBlank()) ? null : PostCursor.decode(cursor);
+
+        Category category = null;
+        Tag tag = null;
+        if(categoryId != null) {
+            category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new EntityNotFoundException("Category not found"));
+        } else if(tagId != null) {
+            tag = tagService.getTagById(tagId);
+        }
+
+        // Se pide una fila de más para saber si existe otra página sin hacer COUNT
+        List<UUID> ids = findFeedIds(category, tag, after, Limit.of(pageSize + 1));
+        boolean hasNext = ids.size() > pageSize;
+        List<PostSummaryDto> posts = loadSummaries(hasNext ? ids.subList(0, pageSize) : ids);
+
+        String nextCursor = null;
+        if (hasNext && !posts.isEmpty()) {
+            PostSummaryDto last = posts.getLast();
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getId()).encode();
         }
 
-        return postRepository.findAllByStatus(PostStatus.PUBLISHED, pageable)
-                .map(postMapper::toDto);
+        return CursorPageResponse.<PostSummaryDto>builder()
+                .content(posts)
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PostDto> getDraftPosts(UUID userId, Pageable pageable) {
+    public Page<PostSummaryDto> getDraftPosts(UUID userId, Pageable pageable) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
-        return postRepository.findAllByAuthorAndStatus(
+        return loadPostPage(postRepository.findIdsByAuthorAndStatus(
                 user,
                 PostStatus.DRAFT,
                 pageable
-        ).map(postMapper::toDto);
+        ));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PostDto> getAllPostsbyTitle(String title, Pageable pageable) {
-        return postRepository.findAllByTitleContainingIgnoreCaseAndStatus(title, PostStatus.PUBLISHED, pageable)
-                .map(postMapper::toDto);
+    public Page<PostSearchResultDto> searchPosts(String query, Pageable pageable) {
+        if(query == null || query.isBlank()) {
+            return Page.empty(pageable);
+        }
+
+        Page<PostSearchHit> hits = postSearchEngine.search(query, pageable);
+        Map<UUID, PostSummaryDto> postsById = loadSummaries(hits.map(PostSearchHit::postId).getContent()).stream()
+                .collect(Collectors.toMap(PostSummaryDto::getId, Function.identity()));
+
+        List<PostSearchResultDto> results = hits.getContent().stream()
+                .filter(hit -> postsById.containsKey(hit.postId()))
+                .map(hit -> PostSearchResultDto.builder()
+                        .post(postsById.get(hit.postId()))
+                        .snippet(hit.snippet())
+                        .rank(hit.rank())
+                        .build())
+                .toList();
+        return new PageImpl<>(results, hits.getPageable(), hits.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostSummaryDto> getTrendingPosts(int limit) {
+        return loadSummaries(trendingService.getTrendingPostIds(limit));
     }
 
     @Override
@@ -101,7 +199,7 @@ public class PostServiceImpl implements PostService {
         Post newPost = postMapper.toCreatePost(createPostRequestDto);
 
         newPost.setAuthor(user);
-        newPost.setReadingTime(calculateReadingTime(createPostRequestDto.getContent()));
+        applyTextStatistics(newPost, createPostRequestDto.getContent());
 
         Category category = categoryRepository.findById(createPostRequestDto.getCategoryId())
                 .orElseThrow(() -> new EntityNotFoundException("Category not found"));
@@ -112,6 +210,8 @@ public class PostServiceImpl implements PostService {
         newPost.setTags(new HashSet<>(tags));
 
         Post createdPost =  postRepository.save(newPost);
+        updateCategoryPostCounts(null, null, newPost.getStatus(), category);
+        eventPublisher.publishEvent(PostChangedEvent.created(createdPost));
 
         return postMapper.toDto(createdPost);
     }
@@ -121,9 +221,12 @@ public class PostServiceImpl implements PostService {
     public PostDto updatePost(UUID id, UpdatePostRequestDto updatePostRequestDto) {
         Post existingPost = postRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Post does not exist"));
+        PostStatus previousStatus = existingPost.getStatus();
+        Category previousCategory = existingPost.getCategory();
+        Set<UUID> existingTagIds = existingPost.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
 
         postMapper.updateFromDto(updatePostRequestDto,existingPost);
-        existingPost.setReadingTime(calculateReadingTime(updatePostRequestDto.getContent()));
+        applyTextStatistics(existingPost, updatePostRequestDto.getContent());
 
         UUID updatePostRequestCategoryId = updatePostRequestDto.getCategoryId();
         if(!existingPost.getCategory().getId().equals(updatePostRequestCategoryId)) {
@@ -133,31 +236,105 @@ public class PostServiceImpl implements PostService {
             existingPost.setCategory(newCategory);
         }
 
-        Set<UUID> existingTagIds = existingPost.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
         Set<UUID> updatePostRequestTagIds = updatePostRequestDto.getTagIds();
         if(!existingTagIds.equals(updatePostRequestTagIds)) {
             List<Tag> newTags = tagService.getTagByIds(updatePostRequestTagIds);
             existingPost.setTags(new HashSet<>(newTags));
+            // Cambiar solo la colección no ensucia el post: @PreUpdate no se ejecutaría y el ETag no cambiaría
+            existingPost.setUpdateAt(LocalDateTime.now());
         }
 
         Post updatedPost = postRepository.save(existingPost);
+        updateCategoryPostCounts(previousStatus, previousCategory, existingPost.getStatus(), existingPost.getCategory());
+        eventPublisher.publishEvent(PostChangedEvent.updated(
+                previousStatus, previousCategory.getId(), existingTagIds, updatedPost));
 
         return postMapper.toDto(updatedPost);
     }
 
     @Override
+    @Transactional
     public void deletePost(UUID id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Post does not exist"));
         postRepository.delete(post);
+        updateCategoryPostCounts(post.getStatus(), post.getCategory(), null, null);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(post));
     }
 
-    private Integer calculateReadingTime(String content) {
-        if(content == null || content.isEmpty()) {
-            return 0;
+    private void updateCategoryPostCounts(
+            PostStatus previousStatus,
+            Category previousCategory,
+            PostStatus currentStatus,
+            Category currentCategory) {
+        boolean wasPublished = PostStatus.PUBLISHED.equals(previousStatus);
+        boolean isPublished = PostStatus.PUBLISHED.equals(currentStatus);
+        if (wasPublished && isPublished && previousCategory.getId().equals(currentCategory.getId())) {
+            return;
         }
 
-        int wordCount = content.trim().split("\\s+").length;
-        return (int) Math.ceil((double) wordCount / WORDS_PER_MINUTE);
+        if (wasPublished) {
+            categoryRepository.adjustPostCount(previousCategory.getId(), -1);
+        }
+        if (isPublished) {
+            categoryRepository.adjustPostCount(currentCategory.getId(), 1);
+        }
+        // El UPDATE masivo no toca la entidad ya cargada; el PostDto devuelto debe llevar el contador nuevo
+        if (isPublished || (wasPublished && currentCategory != null
+                && previousCategory.getId().equals(currentCategory.getId()))) {
+            entityManager.refresh(currentCategory);
+        }
+    }
+
+    private void applyTextStatistics(Post post, String content) {
+        TextStatistics statistics = textStatisticsService.analyze(content);
+        post.setReadingTime(statistics.readingTime());
+        post.setExcerpt(statistics.excerpt());
+    }
+
+    // Two-phase load: the page is resolved on ids only, then the summaries are loaded
+    // with two narrow queries (rows and tags) that never touch content, keeping the page order.
+    private Page<PostSummaryDto> loadPostPage(Page<UUID> postIds) {
+        return new PageImpl<>(loadSummaries(postIds.getContent()), postIds.getPageable(), postIds.getTotalElements());
+    }
+
+    private List<PostSummaryDto> loadSummaries(List<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, PostSummaryRow> rowsById = postRepository.findSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryRow::id, Function.identity()));
+        Map<UUID, Set<TagDto>> tagsByPostId = postRepository.findTagsByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        PostTagRow::postId,
+                        Collectors.mapping(
+                                tagRow -> TagDto.builder().id(tagRow.tagId()).name(tagRow.tagName()).build(),
+                                Collectors.toSet())));
+
+        return postIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(row -> postMapper.toSummaryDto(row, tagsByPostId.getOrDefault(row.id(), Set.of())))
+                .toList();
+    }
+
+    private List<UUID> findFeedIds(Category category, Tag tag, PostCursor cursor, Limit limit) {
+        if (category != null) {
+            return cursor == null
+                    ? postRepository.findFeedIdsByStatusAndCategory(PostStatus.PUBLISHED, category, limit)
+                    : postRepository.findFeedIdsByStatusAndCategoryAfter(
+                            PostStatus.PUBLISHED, category, cursor.createdAt(), cursor.id(), limit);
+        }
+        if (tag != null) {
+            return cursor == null
+                    ? postRepository.findFeedIdsByStatusAndTag(PostStatus.PUBLISHED, tag, limit)
+                    : postRepository.findFeedIdsByStatusAndTagAfter(
+                            PostStatus.PUBLISHED, tag, cursor.createdAt(), cursor.id(), limit);
+        }
+        return cursor == null
+                ? postRepository.findFeedIdsByStatus(PostStatus.PUBLISHED, limit)
+                : postRepository.findFeedIdsByStatusAfter(
+                        PostStatus.PUBLISHED, cursor.createdAt(), cursor.id(), limit);
     }
 }
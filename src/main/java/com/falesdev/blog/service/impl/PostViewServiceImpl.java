@@ -0,0 +1,133 @@
+package com.falesdev.blog.service.impl;
+
+import com.falesdev.blog.event.PostViewsFlushedEvent;
+import com.falesdev.blog.service.PostViewService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Las visitas se acumulan en un LongAdder por post (celdas repartidas entre hilos, sin contención
+ * en un post muy visitado) y se vuelcan sumadas en lotes de UPDATE: una fila caliente recibe una
+ * escritura por intervalo en vez de una por petición.
+ * Una entrada sin visitas en un intervalo se retira del mapa. Quien incrementó una entrada ya retirada
+ * recoge con sumThenReset lo que quede en ella y lo pasa a una nueva: cada visita la recoge exactamente
+ * un sumThenReset, el del volcado o el suyo.
+ */
+@Slf4j
+@Service
+public class PostViewServiceImpl implements PostViewService {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<UUID, PendingViews> pendingViews = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public PostViewServiceImpl(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void recordView(UUID postId) {
+        record(postId, 1);
+    }
+
+    @Override
+    public long getPendingViews(UUID postId) {
+        PendingViews pending = pendingViews.get(postId);
+        return pending == null ? 0 : pending.views.sum();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${blog.posts.views.flush-interval-ms:10000}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            List<Object[]> batch = new ArrayList<>();
+            for (Map.Entry<UUID, PendingViews> entry : pendingViews.entrySet()) {
+                PendingViews pending = entry.getValue();
+                // sumThenReset pone a cero cada celda atómicamente: lo que llegue después queda para el siguiente volcado
+                long views = pending.views.sumThenReset();
+                if (views > 0) {
+                    batch.add(new Object[]{views, entry.getKey()});
+                } else if (pendingViews.remove(entry.getKey(), pending)) {
+                    // Sin visitas en todo el intervalo: se retira y se rescata lo que llegara antes de marcarla
+                    pending.retired = true;
+                    long late = pending.views.sumThenReset();
+                    if (late > 0) {
+                        batch.add(new Object[]{late, entry.getKey()});
+                    }
+                }
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            // Orden fijo de ids: dos instancias volcando a la vez no se bloquean mutuamente
+            batch.sort(Comparator.comparing(row -> (UUID) row[1]));
+            Map<UUID, Long> flushed = new HashMap<>();
+            for (int from = 0; from < batch.size(); from += BATCH_SIZE) {
+                List<Object[]> chunk = batch.subList(from, Math.min(batch.size(), from + BATCH_SIZE));
+                try {
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, chunk);
+                    chunk.forEach(row -> flushed.put((UUID) row[1], (long) row[0]));
+                } catch (DataAccessException e) {
+                    log.warn("Could not flush view counts for {} posts, retrying on next flush", chunk.size(), e);
+                    chunk.forEach(row -> record((UUID) row[1], (long) row[0]));
+                }
+            }
+            if (!flushed.isEmpty()) {
+                eventPublisher.publishEvent(new PostViewsFlushedEvent(Map.copyOf(flushed)));
+            }
+            return flushed.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("Flushed pending view counts for {} posts on shutdown", flushed);
+    }
+
+    private void record(UUID postId, long views) {
+        long unrecorded = views;
+        while (unrecorded > 0) {
+            // get() no bloquea; computeIfAbsent solo la primera vez que se ve el post
+            PendingViews pending = pendingViews.get(postId);
+            if (pending == null) {
+                pending = pendingViews.computeIfAbsent(postId, id -> new PendingViews());
+            }
+            pending.views.add(unrecorded);
+            if (!pending.retired) {
+                return;
+            }
+            // El volcado la retiró a la vez: lo que no rescató (esta visita incluida, si llegó tarde) va a una entrada nueva
+            unrecorded = pending.views.sumThenReset();
+        }
+    }
+
+    private static final class PendingViews {
+        private final LongAdder views = new LongAdder();
+        private volatile boolean retired;
+    }
+}
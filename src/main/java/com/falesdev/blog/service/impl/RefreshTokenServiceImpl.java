@@ -9,15 +9,22 @@ import com.falesdev.blog.repository.UserRepository;
 import com.falesdev.blog.security.BlogUserDetails;
 import com.falesdev.blog.service.JwtService;
 import com.falesdev.blog.service.RefreshTokenService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenServiceImpl implements RefreshTokenService {
@@ -28,66 +35,103 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
     @Override
     @Transactional
-    public RefreshToken createRefreshToken(UUID userId) {
-        refreshTokenRepository.deleteExpiredOrRevokedByUser(userId, Instant.now());
-
+    public String createRefreshToken(UUID userId) {
         User user = userRepository.findById(userId).orElseThrow();
-        UserDetails userDetails = new BlogUserDetails(user);
-
-        RefreshToken refreshToken = RefreshToken.builder()
-                .userId(userId)
-                .token(jwtService.generateRefreshToken(userDetails))
-                .expiryDate(Instant.now().plusMillis(jwtService.getRefreshExpirationMs()))
-                .revoked(false)
-                .build();
-
-        return refreshTokenRepository.save(refreshToken);
+        return issue(new BlogUserDetails(user), UUID.randomUUID());
     }
 
+    // La revocación de la familia por reutilización debe confirmarse aunque se lance la excepción
     @Override
-    @Transactional
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
     public AuthResponse refreshAccessToken(String refreshToken) {
-        validateRefreshToken(refreshToken);
-
-        return refreshTokenRepository.findByToken(refreshToken)
-                .map(token -> {
-                    token.setRevoked(true);
-                    refreshTokenRepository.save(token);
-
-                    User user = userRepository.findById(token.getUserId())
-                            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
-                    UserDetails userDetails = new BlogUserDetails(user);
-                    String newAccessToken = jwtService.generateAccessToken(userDetails);
-                    String newRefreshToken = jwtService.generateRefreshToken(userDetails);
-
-                    RefreshToken newToken = RefreshToken.builder()
-                            .userId(user.getId())
-                            .token(newRefreshToken)
-                            .expiryDate(Instant.now().plusMillis(jwtService.getRefreshExpirationMs()))
-                            .revoked(false)
-                            .build();
-                    refreshTokenRepository.save(newToken);
+        Claims claims;
+        try {
+            claims = jwtService.parseClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidRefreshTokenException("Invalid refresh token");
+        }
+        requireRefreshType(claims);
+        UUID userId = uuidClaim(claims, "userId");
+        UUID familyId = uuidClaim(claims, "fid");
+
+        byte[] tokenHash = hash(refreshToken);
+        if (refreshTokenRepository.consume(tokenHash, Instant.now()) == 0) {
+            // Firmado por nosotros y vigente, pero ya consumido: alguien lo está reutilizando
+            if (refreshTokenRepository.existsByTokenHash(tokenHash)) {
+                int revoked = refreshTokenRepository.revokeFamily(familyId);
+                log.warn("Refresh token reuse detected for user {}, revoked {} tokens of family {}",
+                        userId, revoked, familyId);
+            }
+            throw new InvalidRefreshTokenException("Invalid refresh token");
+        }
 
-                    long expiresIn = jwtService.getJwtExpirationMs() / 1000;
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        UserDetails userDetails = new BlogUserDetails(user);
 
-                    return AuthResponse.builder()
-                            .accessToken(newAccessToken)
-                            .refreshToken(newRefreshToken)
-                            .expiresIn(expiresIn)
-                            .build();
-                })
-                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+        return AuthResponse.builder()
+                .accessToken(jwtService.generateAccessToken(userDetails))
+                .refreshToken(issue(userDetails, familyId))
+                .expiresIn(jwtService.getJwtExpirationMs() / 1000)
+                .build();
     }
 
+    // Logout: la familia entera, así tampoco sirve ninguna copia anterior del token.
+    // Solo el dueño de la sesión puede cerrarla
     @Override
     @Transactional
-    public void validateRefreshToken(String refreshToken) {
-        RefreshToken token = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token not found"));
+    public void revoke(String refreshToken, UUID userId) {
+        Claims claims;
+        try {
+            claims = jwtService.parseClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidRefreshTokenException("Invalid refresh token");
+        }
+        requireRefreshType(claims);
+        UUID familyId = uuidClaim(claims, "fid");
+        if (!uuidClaim(claims, "userId").equals(userId)) {
+            throw new InvalidRefreshTokenException("Invalid refresh token");
+        }
+        refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    private String issue(UserDetails userDetails, UUID familyId) {
+        String token = jwtService.generateRefreshToken(userDetails, familyId);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .familyId(familyId)
+                .userId(((BlogUserDetails) userDetails).getId())
+                .expiryDate(Instant.now().plusMillis(jwtService.getRefreshExpirationMs()))
+                .revoked(false)
+                .build());
+        return token;
+    }
 
-        if (token.isRevoked() || token.getExpiryDate().isBefore(Instant.now())) {
+    // Sin typ solo puede ser un token anterior a ese claim; uuidClaim exige además fid, que un access token no tiene
+    private static void requireRefreshType(Claims claims) {
+        String type = claims.get("typ", String.class);
+        if (type != null && !type.equals("refresh")) {
             throw new InvalidRefreshTokenException("Invalid refresh token");
         }
     }
+
+    private static UUID uuidClaim(Claims claims, String name) {
+        String value = claims.get(name, String.class);
+        if (value == null) {
+            throw new InvalidRefreshTokenException("Invalid refresh token");
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRefreshTokenException("Invalid refresh token");
+        }
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
@@ -33,10 +33,12 @@ public class RoleServiceImpl implements RoleService {
     @Override
     @Transactional(readOnly = true)
     public Set<Role> getRolesByIds(Set<UUID> ids) {
-        List<Role> foundRoles = roleRepository.findAllById(ids);
-        if(foundRoles.size() != ids.size()) {
-            throw new EntityNotFoundException("Not all specified Role IDs exist");
+        // findById se resuelve desde la caché de segundo nivel; findAllById siempre va a la base de datos
+        Set<Role> foundRoles = new HashSet<>();
+        for (UUID id : ids) {
+            foundRoles.add(roleRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Not all specified Role IDs exist")));
         }
-        return new HashSet<>(foundRoles);
+        return foundRoles;
     }
 }
@@ -0,0 +1,160 @@
+package com.falesdev.blog.service.impl;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.dto.CategoryDto;
+import com.falesdev.blog.domain.dto.PostTitleDto;
+import com.falesdev.blog.domain.dto.SuggestionDto;
+import com.falesdev.blog.domain.dto.TagDto;
+import com.falesdev.blog.domain.dto.response.SuggestionsResponse;
+import com.falesdev.blog.event.PostChangedEvent;
+import com.falesdev.blog.repository.CategoryRepository;
+import com.falesdev.blog.repository.PostRepository;
+import com.falesdev.blog.repository.TagRepository;
+import com.falesdev.blog.search.suggest.PrefixTrie;
+import com.falesdev.blog.service.SuggestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestionServiceImpl implements SuggestionService {
+
+    private static final int MAX_LIMIT = 20;
+    private static final int MAX_KEYS_PER_TEXT = 6;
+
+    private final PostRepository postRepository;
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+
+    // topK doble: el mismo post puede ocupar varias posiciones por sus sufijos
+    private final PrefixTrie postTrie = new PrefixTrie(MAX_LIMIT * 2);
+    private final Map<UUID, PostTitleDto> postTitles = new ConcurrentHashMap<>();
+    private volatile PrefixTrie tagTrie = new PrefixTrie(MAX_LIMIT * 2);
+    private volatile PrefixTrie categoryTrie = new PrefixTrie(MAX_LIMIT * 2);
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final Queue<PostChangedEvent> pendingEvents = new ArrayDeque<>();
+    private boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            postRepository.findAllTitlesByStatus(PostStatus.PUBLISHED).forEach(this::putPost);
+            refreshTaxonomies();
+        } finally {
+            loadLock.lock();
+            try {
+                PostChangedEvent event;
+                while ((event = pendingEvents.poll()) != null) {
+                    apply(event);
+                }
+                loaded = true;
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        log.info("Suggestion index loaded with {} post titles", postTitles.size());
+    }
+
+    // Tags y categorías cambian poco y sus contadores sí: se reconstruyen enteros periódicamente
+    @Scheduled(
+            initialDelayString = "${blog.suggest.taxonomy-refresh-ms:60000}",
+            fixedDelayString = "${blog.suggest.taxonomy-refresh-ms:60000}")
+    public void refreshTaxonomies() {
+        PrefixTrie tags = new PrefixTrie(MAX_LIMIT * 2);
+        for (TagDto tag : tagRepository.findAllWithPostCount(PostStatus.PUBLISHED)) {
+            add(tags, tag.getId(), tag.getName(), tag.getPostCount());
+        }
+        PrefixTrie categories = new PrefixTrie(MAX_LIMIT * 2);
+        for (CategoryDto category : categoryRepository.findAllWithPostCount()) {
+            add(categories, category.getId(), category.getName(), category.getPostCount());
+        }
+        tagTrie = tags;
+        categoryTrie = categories;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        loadLock.lock();
+        try {
+            if (!loaded) {
+                pendingEvents.add(event);
+                return;
+            }
+        } finally {
+            loadLock.unlock();
+        }
+        apply(event);
+    }
+
+    @Override
+    public SuggestionsResponse suggest(String prefix, int limit) {
+        int size = Math.clamp(limit, 1, MAX_LIMIT);
+        if (prefix == null || PrefixTrie.normalize(prefix).isEmpty()) {
+            return SuggestionsResponse.builder().posts(List.of()).categories(List.of()).tags(List.of()).build();
+        }
+
+        return SuggestionsResponse.builder()
+                .posts(toDtos(postTrie.search(prefix, size)))
+                .categories(toDtos(categoryTrie.search(prefix, size)))
+                .tags(toDtos(tagTrie.search(prefix, size)))
+                .build();
+    }
+
+    private void apply(PostChangedEvent event) {
+        if (event.isPublished()) {
+            PostTitleDto previous = postTitles.get(event.postId());
+            LocalDateTime createdAt = previous != null ? previous.createdAt() : LocalDateTime.now();
+            putPost(new PostTitleDto(event.postId(), event.title(), createdAt));
+        } else {
+            removePost(event.postId());
+        }
+    }
+
+    private void putPost(PostTitleDto post) {
+        PostTitleDto previous = postTitles.put(post.id(), post);
+        if (previous != null) {
+            if (previous.title().equals(post.title())) {
+                return;
+            }
+            PrefixTrie.keys(previous.title(), MAX_KEYS_PER_TEXT).forEach(key -> postTrie.remove(key, post.id()));
+        }
+        long weight = post.createdAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+        add(postTrie, post.id(), post.title(), weight);
+    }
+
+    private void removePost(UUID postId) {
+        PostTitleDto previous = postTitles.remove(postId);
+        if (previous != null) {
+            PrefixTrie.keys(previous.title(), MAX_KEYS_PER_TEXT).forEach(key -> postTrie.remove(key, postId));
+        }
+    }
+
+    private static void add(PrefixTrie trie, UUID id, String text, long weight) {
+        PrefixTrie.Entry entry = new PrefixTrie.Entry(id, text, weight);
+        PrefixTrie.keys(text, MAX_KEYS_PER_TEXT).forEach(key -> trie.add(key, entry));
+    }
+
+    private static List<SuggestionDto> toDtos(List<PrefixTrie.Entry> entries) {
+        return entries.stream()
+                .map(entry -> new SuggestionDto(entry.id(), entry.text()))
+                .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.falesdev.blog.service.impl;
 
+import com.falesdev.blog.domain.PostStatus;
 import com.falesdev.blog.domain.dto.TagDto;
 import com.falesdev.blog.domain.entity.Tag;
 import com.falesdev.blog.mapper.TagMapper;
@@ -23,9 +24,7 @@ public class TagServiceImpl implements TagService {
     @Override
     @Transactional(readOnly = true)
     public List<TagDto> listTags() {
-        return tagRepository.findAllWithPostCount().stream()
-                .map(tagMapper::toDto)
-                .toList();
+        return tagRepository.findAllWithPostCount(PostStatus.PUBLISHED);
     }
 
     @Override
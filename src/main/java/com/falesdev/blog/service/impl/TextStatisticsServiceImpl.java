@@ -0,0 +1,108 @@
+package com.falesdev.blog.service.impl;
+
+import com.falesdev.blog.domain.TextStatistics;
+import com.falesdev.blog.service.TextStatisticsService;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TextStatisticsServiceImpl implements TextStatisticsService {
+
+    private static final int WORDS_PER_MINUTE = 200;
+    private static final int EXCERPT_LENGTH = 200;
+    private static final String ELLIPSIS = "...";
+
+    @Override
+    public TextStatistics analyze(String content) {
+        if (content == null || content.isEmpty()) {
+            return TextStatistics.EMPTY;
+        }
+
+        StringBuilder excerpt = new StringBuilder(EXCERPT_LENGTH + ELLIPSIS.length());
+        boolean excerptFull = false;
+        boolean truncated = false;
+        boolean cutMidWord = false;
+        boolean pendingSpace = false;
+
+        int words = 0;
+        int characters = 0;
+        boolean inWord = false;
+
+        for (int i = 0, length = content.length(); i < length; i++) {
+            char c = content.charAt(i);
+            if (!Character.isLowSurrogate(c)) {
+                characters++;
+            }
+
+            if (isSeparator(c)) {
+                inWord = false;
+                pendingSpace = excerpt.length() > 0;
+                continue;
+            }
+
+            if (!inWord) {
+                words++;
+                inWord = true;
+            }
+
+            if (!excerptFull) {
+                if (pendingSpace) {
+                    excerpt.append(' ');
+                    pendingSpace = false;
+                }
+                excerpt.append(c);
+                if (excerpt.length() >= EXCERPT_LENGTH && !Character.isHighSurrogate(c)) {
+                    excerptFull = true;
+                }
+            } else if (!truncated) {
+                truncated = true;
+                cutMidWord = !pendingSpace;
+            }
+        }
+
+        return new TextStatistics(words, characters, readingTime(words), finishExcerpt(excerpt, truncated, cutMidWord));
+    }
+
+    @Override
+    public int countWords(CharSequence content) {
+        if (content == null) {
+            return 0;
+        }
+
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0, length = content.length(); i < length; i++) {
+            if (isSeparator(content.charAt(i))) {
+                inWord = false;
+            } else if (!inWord) {
+                words++;
+                inWord = true;
+            }
+        }
+        return words;
+    }
+
+    @Override
+    public int calculateReadingTime(CharSequence content) {
+        return readingTime(countWords(content));
+    }
+
+    private static int readingTime(int words) {
+        return (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE;
+    }
+
+    // Si el texto sigue, se corta en el último espacio para no partir palabras
+    private static String finishExcerpt(StringBuilder excerpt, boolean truncated, boolean cutMidWord) {
+        if (!truncated) {
+            return excerpt.toString();
+        }
+        int lastSpace = excerpt.lastIndexOf(" ");
+        if (cutMidWord && lastSpace > 0) {
+            excerpt.setLength(lastSpace);
+        }
+        return excerpt.append(ELLIPSIS).toString();
+    }
+
+    private static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+}
@@ -0,0 +1,213 @@
+package com.falesdev.blog.service.impl;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.projection.PostViewCountRow;
+import com.falesdev.blog.event.PostChangedEvent;
+import com.falesdev.blog.event.PostViewsFlushedEvent;
+import com.falesdev.blog.repository.PostRepository;
+import com.falesdev.blog.service.TrendingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Ranking con decaimiento exponencial "hacia delante": cada visita suma exp(λ·(t - landmark)),
+ * así que las puntuaciones nunca se recalculan al llegar eventos y el orden relativo se conserva.
+ * Un temporizador mueve el landmark (reescala todo para que los exponentes no crezcan) y poda.
+ * El top-K se mantiene en un TreeSet acotado y se publica como lista inmutable: leerlo es O(K).
+ */
+@Slf4j
+@Service
+public class TrendingServiceImpl implements TrendingService {
+
+    private static final int MAX_LIMIT = 50;
+    private static final double MIN_SCORE = 0.01;
+
+    private record Ranked(UUID postId, double score) {
+    }
+
+    private static final Comparator<Ranked> RANKING = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(Ranked::postId);
+
+    private final PostRepository postRepository;
+    private final Clock clock;
+    private final double decayPerMilli;
+    private final int maxTracked;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, Double> scores = new HashMap<>();
+    private final TreeSet<Ranked> top = new TreeSet<>(RANKING);
+    private long landmark;
+    private volatile List<UUID> snapshot = List.of();
+
+    @Autowired
+    public TrendingServiceImpl(
+            PostRepository postRepository,
+            @Value("${blog.posts.trending.half-life-hours:24}") double halfLifeHours,
+            @Value("${blog.posts.trending.max-tracked:10000}") int maxTracked) {
+        this(postRepository, Clock.systemDefaultZone(), halfLifeHours, maxTracked);
+    }
+
+    public TrendingServiceImpl(PostRepository postRepository, Clock clock, double halfLifeHours, int maxTracked) {
+        this.postRepository = postRepository;
+        this.clock = clock;
+        this.decayPerMilli = Math.log(2) / Duration.ofHours(1).toMillis() / halfLifeHours;
+        this.maxTracked = maxTracked;
+        this.landmark = clock.millis();
+    }
+
+    // Sin historial de visitas con fecha: se parte del total persistido envejecido según la edad del post
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        List<PostViewCountRow> rows = postRepository.findMostViewedByStatus(PostStatus.PUBLISHED, Limit.of(maxTracked));
+        LocalDateTime now = LocalDateTime.now(clock);
+        lock.lock();
+        try {
+            for (PostViewCountRow row : rows) {
+                long ageMillis = Math.max(0, Duration.between(row.createdAt(), now).toMillis());
+                long at = clock.millis() - ageMillis;
+                add(row.id(), row.viewCount() * weight(at));
+            }
+            publish();
+        } finally {
+            lock.unlock();
+        }
+        log.info("Trending ranking seeded with {} posts", rows.size());
+    }
+
+    @EventListener
+    public void onViewsFlushed(PostViewsFlushedEvent event) {
+        // Los ids nuevos se comprueban una vez: borradores y posts despublicados no entran en el ranking
+        List<UUID> unknown;
+        lock.lock();
+        try {
+            unknown = event.views().keySet().stream().filter(postId -> !scores.containsKey(postId)).toList();
+        } finally {
+            lock.unlock();
+        }
+        Set<UUID> published = new HashSet<>();
+        if (!unknown.isEmpty()) {
+            try {
+                published.addAll(postRepository.findIdsByIdInAndStatus(unknown, PostStatus.PUBLISHED));
+            } catch (DataAccessException e) {
+                log.warn("Could not check status of {} posts, their views are left out of trending", unknown.size(), e);
+            }
+        }
+
+        lock.lock();
+        try {
+            double weight = weight(clock.millis());
+            event.views().forEach((postId, views) -> {
+                if (scores.containsKey(postId) || published.contains(postId)) {
+                    add(postId, views * weight);
+                }
+            });
+            publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.isPublished()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (scores.remove(event.postId()) != null && top.removeIf(ranked -> ranked.postId().equals(event.postId()))) {
+                refill();
+                publish();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Mueve el landmark a "ahora", olvida lo que ya no puntúa y recorta a maxTracked
+    @Scheduled(fixedDelayString = "${blog.posts.trending.rebase-interval-ms:300000}")
+    public void rebase() {
+        lock.lock();
+        try {
+            long now = clock.millis();
+            double factor = Math.exp(-decayPerMilli * (now - landmark));
+            landmark = now;
+            scores.replaceAll((postId, score) -> score * factor);
+            scores.values().removeIf(score -> score < MIN_SCORE);
+            if (scores.size() > maxTracked) {
+                List<Map.Entry<UUID, Double>> entries = new ArrayList<>(scores.entrySet());
+                entries.sort(Map.Entry.comparingByValue());
+                entries.subList(0, entries.size() - maxTracked).forEach(entry -> scores.remove(entry.getKey()));
+            }
+            top.clear();
+            refill();
+            publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<UUID> getTrendingPostIds(int limit) {
+        List<UUID> current = snapshot;
+        return current.subList(0, Math.min(current.size(), Math.clamp(limit, 1, MAX_LIMIT)));
+    }
+
+    private double weight(long at) {
+        return Math.exp(decayPerMilli * (at - landmark));
+    }
+
+    // Las puntuaciones solo crecen entre rebases: basta con comparar contra el último del top
+    private void add(UUID postId, double increment) {
+        Double previous = scores.get(postId);
+        double score = (previous == null ? 0 : previous) + increment;
+        scores.put(postId, score);
+        if (previous != null) {
+            top.remove(new Ranked(postId, previous));
+        }
+        Ranked ranked = new Ranked(postId, score);
+        if (top.size() < MAX_LIMIT || RANKING.compare(ranked, top.last()) < 0) {
+            top.add(ranked);
+            if (top.size() > MAX_LIMIT) {
+                top.pollLast();
+            }
+        }
+    }
+
+    private void refill() {
+        for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+            Ranked ranked = new Ranked(entry.getKey(), entry.getValue());
+            if (top.size() < MAX_LIMIT) {
+                top.add(ranked);
+            } else if (RANKING.compare(ranked, top.last()) < 0 && top.add(ranked)) {
+                top.pollLast();
+            }
+        }
+    }
+
+    private void publish() {
+        snapshot = top.stream().map(Ranked::postId).toList();
+    }
+}
@@ -6,7 +6,10 @@ import com.falesdev.blog.domain.dto.request.UpdateUserRequestDto;
 import com.falesdev.blog.domain.entity.Role;
 import com.falesdev.blog.domain.entity.User;
 import com.falesdev.blog.mapper.UserMapper;
+import com.falesdev.blog.repository.RefreshTokenRepository;
 import com.falesdev.blog.repository.UserRepository;
+import com.falesdev.blog.security.auth.PrincipalCache;
+import com.falesdev.blog.security.auth.TokenRevocationRegistry;
 import com.falesdev.blog.service.RoleService;
 import com.falesdev.blog.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
@@ -15,9 +18,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +32,9 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final RoleService roleService;
     private final UserMapper userMapper;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -65,6 +73,8 @@ public class UserServiceImpl implements UserService {
     public UserDto updateUser(UUID id, UpdateUserRequestDto updateUserRequestDto) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(()-> new EntityNotFoundException("User does not exist"));
+        String previousEmail = existingUser.getEmail();
+        Set<UUID> previousRoleIds = existingUser.getRoles().stream().map(Role::getId).collect(Collectors.toSet());
         userMapper.updateFromDto(updateUserRequestDto, existingUser);
 
         if (updateUserRequestDto.getRoleIds() != null && !updateUserRequestDto.getRoleIds().isEmpty()) {
@@ -77,13 +87,35 @@ public class UserServiceImpl implements UserService {
         }
 
         User updatedUser = userRepository.save(existingUser);
+        principalCache.invalidate(previousEmail);
+
+        boolean credentialsChanged = updateUserRequestDto.getPassword() != null
+                || !previousEmail.equalsIgnoreCase(updatedUser.getEmail())
+                || !previousRoleIds.equals(updatedUser.getRoles().stream().map(Role::getId).collect(Collectors.toSet()));
+        if (credentialsChanged) {
+            tokenRevocationRegistry.revokeIssuedBefore(previousEmail, Instant.now());
+        }
         return userMapper.toDto(updatedUser);
     }
 
     @Override
+    @Transactional
     public void deleteUser(UUID id) {
         User user = userRepository.findById(id)
                 .orElseThrow(()-> new EntityNotFoundException("User does not exist"));
         userRepository.delete(user);
+        principalCache.invalidate(user.getEmail());
+        tokenRevocationRegistry.revokeIssuedBefore(user.getEmail(), Instant.now());
+    }
+
+    // Cierra todas las sesiones del usuario: access tokens emitidos hasta ahora y toda su cadena de refresh
+    @Override
+    @Transactional
+    public void revokeTokens(UUID id) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        refreshTokenRepository.revokeByUserId(id);
+        principalCache.invalidate(user.getEmail());
+        tokenRevocationRegistry.revokeIssuedBefore(user.getEmail(), Instant.now());
     }
 }
@@ -0,0 +1,71 @@
+-- Se ejecuta después de que Hibernate cree/valide las tablas (spring.jpa.defer-datasource-initialization)
+-- En prod (ddl-auto=validate) la validación corre antes que este script: aplicar estas sentencias
+-- a mano antes de desplegar una versión que mapee columnas o tablas nuevas
+
+-- Contador de posts publicados por categoría; CategoryPostCountReconciler corrige desviaciones
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS post_count integer NOT NULL DEFAULT 0;
+UPDATE categories SET post_count = (
+    SELECT COUNT(*) FROM posts p WHERE p.category_id = categories.id AND p.status = 'PUBLISHED')
+WHERE post_count <> (
+    SELECT COUNT(*) FROM posts p WHERE p.category_id = categories.id AND p.status = 'PUBLISHED');
+
+-- Búsqueda de texto completo: vector mantenido por PostgreSQL en cada escritura, título con más peso
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_posts_search_vector ON posts USING GIN (search_vector);
+
+-- Extracto precalculado para los listados; PostExcerptBackfillJob rellena las filas antiguas al arrancar
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS excerpt varchar(255);
+
+-- Contador de visitas; PostViewService lo incrementa en lotes
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS view_count bigint NOT NULL DEFAULT 0;
+
+-- Refresh tokens guardados como SHA-256 (bytea de 32 bytes) y agrupados por familia de rotación.
+-- Los tokens en claro anteriores no se migran: esos usuarios vuelven a iniciar sesión una vez
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash bytea;
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS family_id uuid;
+DELETE FROM refresh_tokens WHERE token_hash IS NULL OR family_id IS NULL;
+ALTER TABLE refresh_tokens DROP COLUMN IF EXISTS token;
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens ALTER COLUMN family_id SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
+
+-- Access tokens revocados por jti (logout); AccessTokenRevocationList borra las filas al caducar el token
+CREATE TABLE IF NOT EXISTS revoked_access_tokens (
+    jti uuid PRIMARY KEY,
+    user_id uuid NOT NULL,
+    expires_at timestamp(6) with time zone NOT NULL,
+    revoked_at timestamp(6) with time zone NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_revoked_access_tokens_expires_at ON revoked_access_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_access_tokens_revoked_at ON revoked_access_tokens (revoked_at);
+
+-- Revocaciones por usuario (cambio de credenciales, baja, revoke-tokens); TokenRevocationRegistry las sincroniza
+CREATE TABLE IF NOT EXISTS token_revocations (
+    subject varchar(255) PRIMARY KEY,
+    revoked_before timestamp(6) with time zone NOT NULL,
+    expires_at timestamp(6) with time zone NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_token_revocations_expires_at ON token_revocations (expires_at);
+CREATE INDEX IF NOT EXISTS idx_token_revocations_revoked_before ON token_revocations (revoked_before);
+
+-- Outbox de correos: se escribe en la transacción del registro y EmailOutboxDispatcher lo vacía en lotes
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id uuid PRIMARY KEY,
+    type varchar(255) NOT NULL,
+    recipient varchar(255) NOT NULL,
+    recipient_name varchar(255),
+    status varchar(255) NOT NULL,
+    attempts integer NOT NULL,
+    next_attempt_at timestamp(6) with time zone NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    sent_at timestamp(6) with time zone,
+    last_error varchar(500)
+);
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt_at ON email_outbox (status, next_attempt_at);
@@ -0,0 +1,140 @@
+package com.falesdev.blog.cache;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.event.PostChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+public class PostPageResponseCacheUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostPageResponseCache cache = new PostPageResponseCache(
+            true, 1 << 20, 300, Jackson2ObjectMapperBuilder.json().build(), meterRegistry);
+
+    private final UUID categoryA = UUID.randomUUID();
+    private final UUID categoryB = UUID.randomUUID();
+    private final UUID tagA = UUID.randomUUID();
+
+    private final PostPageResponseCache.PageKey allPosts =
+            PostPageResponseCache.PageKey.of(null, null, PageRequest.of(0, 10));
+    private final PostPageResponseCache.PageKey categoryAPosts =
+            PostPageResponseCache.PageKey.of(categoryA, null, PageRequest.of(0, 10));
+    private final PostPageResponseCache.PageKey categoryBPosts =
+            PostPageResponseCache.PageKey.of(categoryB, null, PageRequest.of(0, 10));
+    private final PostPageResponseCache.PageKey tagAPosts =
+            PostPageResponseCache.PageKey.of(null, tagA, PageRequest.of(0, 10));
+
+    @Test
+    @DisplayName("Published change - Evicts only the slices the post belongs to")
+    void onPostChanged_Published_EvictsAffectedSlices() {
+        AtomicInteger loads = new AtomicInteger();
+        List.of(allPosts, categoryAPosts, categoryBPosts, tagAPosts)
+                .forEach(key -> cache.get(key, () -> List.of(loads.incrementAndGet())));
+
+        cache.onPostChanged(event(PostStatus.DRAFT, PostStatus.PUBLISHED, Set.of(categoryA), Set.of(tagA)));
+        List.of(allPosts, categoryAPosts, categoryBPosts, tagAPosts)
+                .forEach(key -> cache.get(key, () -> List.of(loads.incrementAndGet())));
+
+        // 4 cargas iniciales + 3 recargas (general, categoría A, tag A); la categoría B sigue en caché
+        assertThat(loads).hasValue(7);
+        assertThat(meterRegistry.get("blog.posts.page-cache.bytes").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Draft change - Leaves public pages untouched")
+    void onPostChanged_DraftOnly_KeepsPages() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(allPosts, () -> List.of(loads.incrementAndGet()));
+
+        cache.onPostChanged(event(PostStatus.DRAFT, PostStatus.DRAFT, Set.of(categoryA), Set.of()));
+        cache.get(allPosts, () -> List.of(loads.incrementAndGet()));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Cold key - Concurrent requests load the page once")
+    void get_ConcurrentColdKey_LoadsOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(allPosts, () -> {
+                        loads.incrementAndGet();
+                        return List.of("page");
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<byte[]> result : results) {
+                assertThat(new String(result.get())).isEqualTo("[\"page\"]");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Invalidation during load - Stale page is not cached")
+    void get_InvalidatedWhileLoading_DoesNotCacheStalePage() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<byte[]> stale = executor.submit(() -> cache.get(allPosts, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                try {
+                    invalidated.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of("stale");
+            }));
+
+            loading.await();
+            cache.onPostChanged(event(PostStatus.DRAFT, PostStatus.PUBLISHED, Set.of(categoryA), Set.of()));
+            invalidated.countDown();
+            assertThat(new String(stale.get())).isEqualTo("[\"stale\"]");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        byte[] fresh = cache.get(allPosts, () -> {
+            loads.incrementAndGet();
+            return List.of("fresh");
+        });
+
+        assertThat(new String(fresh)).isEqualTo("[\"fresh\"]");
+        assertThat(loads).hasValue(2);
+    }
+
+    private PostChangedEvent event(PostStatus previous, PostStatus current, Set<UUID> categoryIds, Set<UUID> tagIds) {
+        return new PostChangedEvent(UUID.randomUUID(), PostChangedEvent.ChangeType.UPDATED, previous, current,
+                "title", "content", categoryIds, tagIds);
+    }
+}
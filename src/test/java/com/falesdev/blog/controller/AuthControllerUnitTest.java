@@ -3,9 +3,13 @@ package com.falesdev.blog.controller;
 import com.falesdev.blog.domain.dto.response.AuthResponse;
 import com.falesdev.blog.domain.dto.response.AuthUserResponse;
 import com.falesdev.blog.domain.dto.request.LoginRequest;
+import com.falesdev.blog.domain.dto.request.LogoutRequest;
 import com.falesdev.blog.domain.dto.request.RegisterRequest;
+import com.falesdev.blog.exception.TooManyRequestsException;
 import com.falesdev.blog.security.BlogUserDetails;
+import com.falesdev.blog.security.auth.LoginRateLimiter;
 import com.falesdev.blog.service.AuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +33,12 @@ public class AuthControllerUnitTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
+    @Mock
+    private HttpServletRequest httpRequest;
+
     @InjectMocks
     private AuthController authController;
 
@@ -66,7 +76,7 @@ public class AuthControllerUnitTest {
                 eq(loginRequest.getPassword())
         )).thenReturn(expectedResponse);
 
-        ResponseEntity<AuthResponse> response = authController.login(loginRequest);
+        ResponseEntity<AuthResponse> response = authController.login(loginRequest, httpRequest);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(expectedResponse);
@@ -107,11 +117,42 @@ public class AuthControllerUnitTest {
                 .thenThrow(new BadCredentialsException("Invalid email or password"));
 
         BadCredentialsException exception = assertThrows(BadCredentialsException.class, () ->
-                authController.login(loginRequest)
+                authController.login(loginRequest, httpRequest)
         );
 
         assertThat(exception.getMessage()).isEqualTo("Invalid email or password");
 
         verify(authenticationService).authenticate(anyString(), anyString());
     }
+
+    @Test
+    @DisplayName("Logout - Revokes bearer and refresh tokens")
+    void logout_WithRefreshToken_RevokesBoth() {
+        ResponseEntity<Void> response = authController.logout(
+                "Bearer access.token", new LogoutRequest("refresh.token"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        verify(authenticationService).logout("access.token", "refresh.token");
+    }
+
+    @Test
+    @DisplayName("Logout without body - Revokes only the bearer token")
+    void logout_WithoutBody_RevokesAccessToken() {
+        ResponseEntity<Void> response = authController.logout("Bearer access.token", null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        verify(authenticationService).logout("access.token", null);
+    }
+
+    @Test
+    @DisplayName("Login throttled - Credentials never checked")
+    void login_Throttled_ThrowsBeforeAuthenticating() {
+        when(httpRequest.getRemoteAddr()).thenReturn("10.0.0.1");
+        doThrow(new TooManyRequestsException("Too many login attempts, try again later", 12))
+                .when(loginRateLimiter).acquire(loginRequest.getEmail(), "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> authController.login(loginRequest, httpRequest));
+
+        verifyNoInteractions(authenticationService);
+    }
 }
@@ -12,9 +12,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -67,7 +71,7 @@ public class CategoryControllerUnitTest {
         List<CategoryDto> categoryList = List.of(categoryDto);
         when(categoryService.listCategories()).thenReturn(categoryList);
 
-        ResponseEntity<List<CategoryDto>> response = categoryController.listCategories();
+        ResponseEntity<List<CategoryDto>> response = categoryController.listCategories(webRequest(null));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(categoryList).hasSize(1);
@@ -75,6 +79,19 @@ public class CategoryControllerUnitTest {
         verify(categoryService).listCategories();
     }
 
+    @Test
+    @DisplayName("List categories - Unchanged collection returns 304")
+    void listCategories_MatchingETag_ReturnsNotModified() {
+        when(categoryService.listCategories()).thenReturn(List.of(categoryDto));
+
+        String etag = categoryController.listCategories(webRequest(null)).getHeaders().getETag();
+        ResponseEntity<List<CategoryDto>> response = categoryController.listCategories(webRequest(etag));
+
+        assertThat(etag).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
     @Test
     @DisplayName("Success Get Category")
     void getCategory_ShouldReturnCategory_WhenCategoryExists() {
@@ -147,4 +164,12 @@ public class CategoryControllerUnitTest {
 
         verify(categoryService, times(1)).deleteCategory(eq(categoryId));
     }
+
+    private ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/categories");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
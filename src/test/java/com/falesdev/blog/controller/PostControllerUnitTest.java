@@ -1,10 +1,16 @@
 package com.falesdev.blog.controller;
 
+import com.falesdev.blog.cache.PostPageResponseCache;
 import com.falesdev.blog.domain.PostStatus;
 import com.falesdev.blog.domain.dto.*;
 import com.falesdev.blog.domain.dto.request.CreatePostRequestDto;
 import com.falesdev.blog.domain.dto.request.UpdatePostRequestDto;
+import com.falesdev.blog.domain.dto.response.SuggestionsResponse;
 import com.falesdev.blog.service.PostService;
+import com.falesdev.blog.service.PostViewService;
+import com.falesdev.blog.service.SuggestionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +18,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,9 +52,22 @@ public class PostControllerUnitTest {
     @Mock
     private PostService postService;
 
+    @Mock
+    private SuggestionService suggestionService;
+
+    @Mock
+    private PostViewService postViewService;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Spy
+    private PostPageResponseCache postPageResponseCache = new PostPageResponseCache(
+            true, 1 << 20, 60, objectMapper, new SimpleMeterRegistry());
+
     private static final Pageable pageable = PageRequest.of(0, 10,
             Sort.by("createdAt").descending());
     private PostDto postDto1, postDto2,expectedCreatedPostDto,expectedUpdatedPostDto;
+    private PostSummaryDto summary1, summary2;
     private CreatePostRequestDto createPostRequestDto;
     private UpdatePostRequestDto updatePostRequestDto;
 
@@ -73,6 +99,8 @@ public class PostControllerUnitTest {
                 Set.of(tag),
                 PostStatus.DRAFT
         );
+        summary1 = toSummary(postDto1);
+        summary2 = toSummary(postDto2);
 
         // DTOs for the creation test
         createPostRequestDto = new CreatePostRequestDto(
@@ -111,68 +139,139 @@ public class PostControllerUnitTest {
 
     @Test
     @DisplayName("Success Get Posts - No Filters")
-    void getAllPosts_NoFilters_ReturnsPage() {
-        Page<PostDto> expectedPage = new PageImpl<>(List.of(postDto1,postDto2));
+    void getAllPosts_NoFilters_ReturnsPage() throws Exception {
+        Page<PostSummaryDto> expectedPage = new PageImpl<>(List.of(summary1,summary2));
         when(postService.getAllPosts(isNull(), isNull(), eq(pageable))).thenReturn(expectedPage);
 
-        ResponseEntity<Page<PostDto>> response = postController.getAllPosts(null, null, pageable);
+        ResponseEntity<byte[]> response = postController.getAllPosts(null, null, pageable);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(expectedPage).hasSize(2);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(expectedPage));
 
         verify(postService).getAllPosts(isNull(), isNull(), eq(pageable));
     }
 
     @Test
     @DisplayName("Success Get Posts - With Filter")
-    void getAllPosts_WithFilters_ReturnsPage() {
+    void getAllPosts_WithFilters_ReturnsPage() throws Exception {
         UUID categoryId = UUID.randomUUID();
-        Page<PostDto> expectedPage = pageOf(postDto1);
+        Page<PostSummaryDto> expectedPage = pageOf(summary1);
 
         when(postService.getAllPosts(eq(categoryId), isNull(), eq(pageable))).thenReturn(expectedPage);
 
-        ResponseEntity<Page<PostDto>> response = postController.getAllPosts(categoryId, null, pageable);
+        ResponseEntity<byte[]> response = postController.getAllPosts(categoryId, null, pageable);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(expectedPage).hasSize(1);
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(expectedPage));
 
         verify(postService).getAllPosts(eq(categoryId), isNull(), eq(pageable));
     }
 
+    @Test
+    @DisplayName("Get Posts - Repeated page is served from the response cache")
+    void getAllPosts_SamePageTwice_LoadsOnce() {
+        when(postService.getAllPosts(isNull(), isNull(), eq(pageable))).thenReturn(pageOf(summary1));
+
+        byte[] first = postController.getAllPosts(null, null, pageable).getBody();
+        byte[] second = postController.getAllPosts(null, null, pageable).getBody();
+
+        assertThat(second).isSameAs(first);
+        verify(postService, times(1)).getAllPosts(isNull(), isNull(), eq(pageable));
+    }
+
     @Test
     @DisplayName("Success Get Post")
     void getPost_ShouldReturnPost_WhenPostExists() {
         UUID postId = UUID.randomUUID();
+        PostVersionDto version = version(LocalDateTime.now());
+        when(postService.getPostVersion(eq(postId))).thenReturn(version);
         when(postService.getPost(eq(postId))).thenReturn(postDto1);
 
-        ResponseEntity<PostDto> response = postController.getPost(postId);
+        ResponseEntity<PostDto> response = postController.getPost(postId, webRequest(null));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull().isEqualTo(postDto1);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETags.ofPost(postId, version)).startsWith("W/\"");
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(-1);
 
         verify(postService).getPost(eq(postId));
+        verify(postViewService).recordView(eq(postId));
+    }
+
+    @Test
+    @DisplayName("Get Post - Matching ETag returns 304 without loading the post")
+    void getPost_MatchingETag_ReturnsNotModified() {
+        UUID postId = UUID.randomUUID();
+        PostVersionDto version = version(LocalDateTime.now());
+        when(postService.getPostVersion(eq(postId))).thenReturn(version);
+
+        ResponseEntity<PostDto> response = postController.getPost(postId,
+                webRequest(ETags.ofPost(postId, version)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verify(postService, never()).getPost(any());
+        verify(postViewService).recordView(eq(postId));
+    }
+
+    @Test
+    @DisplayName("Get Post - Stale ETag returns the current version")
+    void getPost_StaleETag_ReturnsPost() {
+        UUID postId = UUID.randomUUID();
+        PostVersionDto version = version(LocalDateTime.now());
+        when(postService.getPostVersion(eq(postId))).thenReturn(version);
+        when(postService.getPost(eq(postId))).thenReturn(postDto1);
+
+        ResponseEntity<PostDto> response = postController.getPost(postId,
+                webRequest(ETags.ofPost(postId, version(version.updatedAt().minusSeconds(1)))));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(postDto1);
+    }
+
+    @Test
+    @DisplayName("Get Post - Embedded category changed without touching the post returns the current version")
+    void getPost_CategoryChanged_ReturnsPost() {
+        UUID postId = UUID.randomUUID();
+        PostVersionDto cached = version(LocalDateTime.now());
+        CategoryDto recounted = CategoryDto.builder()
+                .id(cached.category().getId())
+                .name(cached.category().getName())
+                .postCount(cached.category().getPostCount() + 1)
+                .build();
+        when(postService.getPostVersion(eq(postId))).thenReturn(
+                new PostVersionDto(cached.updatedAt(), cached.author(), recounted, cached.tags()));
+        when(postService.getPost(eq(postId))).thenReturn(postDto1);
+
+        ResponseEntity<PostDto> response = postController.getPost(postId, webRequest(ETags.ofPost(postId, cached)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(postDto1);
     }
 
     @Test
     @DisplayName("Fail to Get Post - Not Found")
     void getPost_ShouldThrowException_WhenPostNotFound() {
         UUID postId = UUID.randomUUID();
-        when(postService.getPost(eq(postId))).thenThrow(new EntityNotFoundException("Post not found"));
+        when(postService.getPostVersion(eq(postId))).thenThrow(new EntityNotFoundException("Post not found"));
 
-        Exception exception = assertThrows(EntityNotFoundException.class, () -> postController.getPost(postId));
+        Exception exception = assertThrows(EntityNotFoundException.class,
+                () -> postController.getPost(postId, webRequest(null)));
         assertThat(exception.getMessage()).isEqualTo("Post not found");
 
-        verify(postService).getPost(eq(postId));
+        verify(postService, never()).getPost(any());
+        verify(postViewService, never()).recordView(any());
     }
 
     @Test
     @DisplayName("Success Get Drafts by UserId")
     void getDrafts_ValidUserId_ReturnsPage() {
         UUID userId = UUID.randomUUID();
-        Page<PostDto> expectedPage = pageOf(postDto2);
+        Page<PostSummaryDto> expectedPage = pageOf(summary2);
         when(postService.getDraftPosts(eq(userId), eq(pageable))).thenReturn(expectedPage);
 
-        ResponseEntity<Page<PostDto>> response = postController.getDrafts(userId, pageable);
+        ResponseEntity<Page<PostSummaryDto>> response = postController.getDrafts(userId, pageable);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(expectedPage).hasSize(1);
@@ -181,19 +280,65 @@ public class PostControllerUnitTest {
     }
 
     @Test
-    @DisplayName("Success Get Posts by Title")
-    void searchPosts_WithTitle_ReturnsPage() {
+    @DisplayName("Success Search Posts")
+    void searchPosts_WithQuery_ReturnsPage() {
+        String query = "Guide";
+        Page<PostSearchResultDto> expectedPage = new PageImpl<>(List.of(
+                PostSearchResultDto.builder().post(summary1).snippet("<mark>Guide</mark>").rank(0.8).build()
+        ));
+
+        when(postService.searchPosts(eq(query), eq(pageable))).thenReturn(expectedPage);
+
+        ResponseEntity<Page<PostSearchResultDto>> response = postController.searchPosts(query, null, pageable);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expectedPage).hasSize(1);
+
+        verify(postService).searchPosts(eq(query), eq(pageable));
+    }
+
+    @Test
+    @DisplayName("Success Search Posts with legacy title parameter")
+    void searchPosts_WithTitleAlias_UsesTitleAsQuery() {
         String title = "Guide";
-        Page<PostDto> expectedPage = pageOf(postDto1,postDto2);
+        Page<PostSearchResultDto> expectedPage = Page.empty(pageable);
 
-        when(postService.getAllPostsbyTitle(eq(title), eq(pageable))).thenReturn(expectedPage);
+        when(postService.searchPosts(eq(title), eq(pageable))).thenReturn(expectedPage);
 
-        ResponseEntity<Page<PostDto>> response = postController.getAllPostsbyTitle(title, pageable);
+        ResponseEntity<Page<PostSearchResultDto>> response = postController.searchPosts(null, title, pageable);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(expectedPage).hasSize(2);
+        verify(postService).searchPosts(eq(title), eq(pageable));
+    }
+
+    @Test
+    @DisplayName("Success Trending Posts")
+    void getTrendingPosts_ReturnsRankedSummaries() {
+        when(postService.getTrendingPosts(eq(10))).thenReturn(List.of(summary2, summary1));
+
+        ResponseEntity<List<PostSummaryDto>> response = postController.getTrendingPosts(10);
 
-        verify(postService).getAllPostsbyTitle(eq(title), eq(pageable));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(summary2, summary1);
+        verify(postService).getTrendingPosts(eq(10));
+    }
+
+    @Test
+    @DisplayName("Success Suggest")
+    void suggest_WithPrefix_ReturnsSuggestions() {
+        SuggestionsResponse expected = SuggestionsResponse.builder()
+                .posts(List.of(new SuggestionDto(postDto1.getId(), postDto1.getTitle())))
+                .categories(List.of())
+                .tags(List.of())
+                .build();
+
+        when(suggestionService.suggest(eq("spr"), eq(5))).thenReturn(expected);
+
+        ResponseEntity<SuggestionsResponse> response = postController.suggest("spr", 5);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expected);
+        verify(suggestionService).suggest(eq("spr"), eq(5));
     }
 
     @Test
@@ -260,7 +405,36 @@ public class PostControllerUnitTest {
                 .build();
     }
 
-    private Page<PostDto> pageOf(PostDto... posts) {
+    private PostVersionDto version(LocalDateTime updatedAt) {
+        return new PostVersionDto(
+                updatedAt,
+                postDto1.getAuthor(),
+                postDto1.getCategory(),
+                List.copyOf(postDto1.getTags()));
+    }
+
+    private ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private PostSummaryDto toSummary(PostDto post) {
+        return PostSummaryDto.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .excerpt(post.getContent())
+                .author(post.getAuthor())
+                .category(post.getCategory())
+                .tags(post.getTags())
+                .readingTime(post.getReadingTime())
+                .createdAt(post.getCreatedAt())
+                .build();
+    }
+
+    private Page<PostSummaryDto> pageOf(PostSummaryDto... posts) {
         return new PageImpl<>(List.of(posts));
     }
 }
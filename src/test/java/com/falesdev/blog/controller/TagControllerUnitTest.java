@@ -10,9 +10,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 import java.util.Set;
@@ -61,7 +65,7 @@ public class TagControllerUnitTest {
         List<TagDto> tagList = List.of(tagDto1,tagDto2);
         when(tagService.listTags()).thenReturn(tagList);
 
-        ResponseEntity<List<TagDto>> response = tagController.listTags();
+        ResponseEntity<List<TagDto>> response = tagController.listTags(webRequest(null));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(tagList).hasSize(2);
@@ -69,6 +73,19 @@ public class TagControllerUnitTest {
         verify(tagService).listTags();
     }
 
+    @Test
+    @DisplayName("List tags - Unchanged collection returns 304")
+    void listTags_MatchingETag_ReturnsNotModified() {
+        when(tagService.listTags()).thenReturn(List.of(tagDto1, tagDto2));
+
+        String etag = tagController.listTags(webRequest(null)).getHeaders().getETag();
+        ResponseEntity<List<TagDto>> response = tagController.listTags(webRequest(etag));
+
+        assertThat(etag).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
     @Test
     @DisplayName("Success Create Tags")
     void createTags_ShouldReturnCreatedTags() {
@@ -99,4 +116,12 @@ public class TagControllerUnitTest {
 
         verify(tagService, times(1)).deleteTag(eq(tagId));
     }
+
+    private ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tags");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
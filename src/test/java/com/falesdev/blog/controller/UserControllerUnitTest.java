@@ -171,6 +171,17 @@ public class UserControllerUnitTest {
         verify(userService, times(1)).deleteUser(eq(userId));
     }
 
+    @Test
+    @DisplayName("Revoke user tokens - Returns no content")
+    void revokeTokens_ShouldReturnNoContent() {
+        UUID userId = UUID.randomUUID();
+
+        ResponseEntity<Void> response = userController.revokeTokens(userId);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        verify(userService).revokeTokens(eq(userId));
+    }
+
     private UserDto createUserDto(String email, String firstName, String lastName,
                                   Set<RoleDto> roles) {
         return UserDto.builder()
@@ -1,5 +1,8 @@
 package com.falesdev.blog.repository;
+import com.falesdev.blog.domain.PostStatus;
 import com.falesdev.blog.domain.entity.Category;
+import com.falesdev.blog.domain.entity.Post;
+import com.falesdev.blog.domain.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -82,4 +85,54 @@ public class CategoryRepositoryIntegrationTest {
         assertThat(exists2).isTrue();
         assertThat(exists3).isFalse();
     }
+
+    @Test
+    void adjustPostCount() {
+        categoryRepository.adjustPostCount(category.getId(), 1);
+        categoryRepository.adjustPostCount(category.getId(), 1);
+        categoryRepository.adjustPostCount(category.getId(), -1);
+        entityManager.clear();
+
+        assertThat(categoryRepository.findById(category.getId()))
+                .get()
+                .extracting(Category::getPostCount)
+                .isEqualTo(1);
+    }
+
+    @Test
+    void reconcilePostCounts() {
+        User author = User.builder()
+                .email("author@example.com")
+                .password("securepass")
+                .firstName("Author")
+                .build();
+        entityManager.persistAndFlush(author);
+
+        entityManager.persistAndFlush(Post.builder()
+                .title("Published")
+                .content("Published content")
+                .status(PostStatus.PUBLISHED)
+                .readingTime(1)
+                .author(author)
+                .category(category)
+                .build());
+        entityManager.persistAndFlush(Post.builder()
+                .title("Draft")
+                .content("Draft content")
+                .status(PostStatus.DRAFT)
+                .readingTime(1)
+                .author(author)
+                .category(category)
+                .build());
+
+        int drifted = categoryRepository.reconcilePostCounts();
+        entityManager.clear();
+
+        assertThat(drifted).isEqualTo(1);
+        assertThat(categoryRepository.findById(category.getId()))
+                .get()
+                .extracting(Category::getPostCount)
+                .isEqualTo(1);
+        assertThat(categoryRepository.reconcilePostCounts()).isZero();
+    }
 }
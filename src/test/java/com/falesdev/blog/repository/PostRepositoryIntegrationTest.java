@@ -2,21 +2,31 @@ package com.falesdev.blog.repository;
 
 import com.falesdev.blog.domain.PostStatus;
 import com.falesdev.blog.domain.entity.*;
+import com.falesdev.blog.domain.projection.PostContentRow;
+import com.falesdev.blog.domain.projection.PostSummaryRow;
+import com.falesdev.blog.domain.projection.PostTagRow;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ActiveProfiles("test")
 @DataJpaTest
@@ -230,17 +240,188 @@ public class PostRepositoryIntegrationTest {
     }
 
     @Test
-    void findAllByTitleContainingIgnoreCase() {
+    void searchByTitleOrContent_MatchesTitleAndContentTitleFirst() {
         PageRequest pageable = PageRequest.of(0, 10);
-        Page<Post> result = postRepository.findAllByTitleContainingIgnoreCaseAndStatus(
-                "GUIDE",
-                PostStatus.PUBLISHED,
-                pageable
-        );
+        Page<Post> byTitle = postRepository.searchByTitleOrContent(PostStatus.PUBLISHED, "GUIDE", pageable);
 
-        assertThat(result.getContent())
+        assertThat(byTitle.getContent())
                 .hasSize(2)
                 .extracting(Post::getTitle)
                 .containsExactlyInAnyOrder("Spring Data JPA Guide","Angular Beginner Guide");
+
+        Page<Post> byContent = postRepository.searchByTitleOrContent(PostStatus.PUBLISHED, "getting started", pageable);
+
+        assertThat(byContent.getContent())
+                .extracting(Post::getTitle)
+                .containsExactly("Angular Beginner Guide");
+        assertThat(byContent.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void searchByTitleOrContent_EscapedWildcards_MatchLiterally() {
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        assertThat(postRepository.searchByTitleOrContent(PostStatus.PUBLISHED, "\\%", pageable)).isEmpty();
+        assertThat(postRepository.searchByTitleOrContent(PostStatus.PUBLISHED, "spring\\_data", pageable)).isEmpty();
+        assertThat(postRepository.searchByTitleOrContent(PostStatus.PUBLISHED, "spring data", pageable))
+                .extracting(Post::getTitle)
+                .containsExactly("Spring Data JPA Guide");
+    }
+
+    @Test
+    void findIdsByStatus_AndHydrate_UsesConstantStatementsPerPage() {
+        Role role = Role.builder().name("USER").build();
+        entityManager.persistAndFlush(role);
+
+        for (int i = 0; i < 8; i++) {
+            User writer = User.builder()
+                    .email("writer" + i + "@example.com")
+                    .password("securepass")
+                    .firstName("Writer " + i)
+                    .roles(new HashSet<>(Set.of(role)))
+                    .build();
+            entityManager.persistAndFlush(writer);
+
+            Category category = Category.builder().name("Category " + i).build();
+            entityManager.persistAndFlush(category);
+
+            Tag tag = Tag.builder().name("Tag " + i).build();
+            entityManager.persistAndFlush(tag);
+
+            entityManager.persistAndFlush(Post.builder()
+                    .title("Post " + i)
+                    .content("Content " + i)
+                    .status(PostStatus.PUBLISHED)
+                    .readingTime(1)
+                    .author(writer)
+                    .category(category)
+                    .tags(Set.of(tag))
+                    .build());
+        }
+
+        long smallPageStatements = countStatementsForPage(PageRequest.of(0, 2));
+        long largePageStatements = countStatementsForPage(PageRequest.of(0, 8));
+
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+        assertThat(largePageStatements).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void findFeedIdsByStatus_SeekPagesMatchFullOrdering() {
+        for (int i = 0; i < 5; i++) {
+            entityManager.persistAndFlush(Post.builder()
+                    .title("Feed post " + i)
+                    .content("Feed content " + i)
+                    .status(PostStatus.PUBLISHED)
+                    .readingTime(1)
+                    .author(author)
+                    .category(category1)
+                    .tags(Set.of(tag1))
+                    .build());
+        }
+        entityManager.clear();
+
+        List<UUID> expected = postRepository.findFeedIdsByStatus(PostStatus.PUBLISHED, Limit.unlimited());
+
+        List<UUID> walked = new ArrayList<>();
+        List<UUID> page = postRepository.findFeedIdsByStatus(PostStatus.PUBLISHED, Limit.of(2));
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            Post last = entityManager.find(Post.class, page.getLast());
+            page = postRepository.findFeedIdsByStatusAfter(
+                    PostStatus.PUBLISHED, last.getCreatedAt(), last.getId(), Limit.of(2));
+        }
+
+        assertThat(expected).hasSize(7);
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void findFeedIdsByStatusAndTag_SeekSkipsAlreadySeenPosts() {
+        List<UUID> firstPage = postRepository.findFeedIdsByStatusAndTag(PostStatus.PUBLISHED, tag1, Limit.of(1));
+        assertThat(firstPage).containsExactly(post1.getId());
+
+        List<UUID> nextPage = postRepository.findFeedIdsByStatusAndTagAfter(
+                PostStatus.PUBLISHED, tag1, post1.getCreatedAt(), post1.getId(), Limit.of(1));
+        assertThat(nextPage).isEmpty();
+
+        List<UUID> otherCategory = postRepository.findFeedIdsByStatusAndCategory(
+                PostStatus.PUBLISHED, category2, Limit.of(10));
+        assertThat(otherCategory).containsExactly(post2.getId());
+    }
+
+    @Test
+    void findSummariesByIdIn_LoadsListingColumnsAndTags() {
+        postRepository.updateExcerpt(post1.getId(), "Complete guide...");
+        entityManager.clear();
+
+        List<PostSummaryRow> rows = postRepository.findSummariesByIdIn(List.of(post1.getId(), post2.getId()));
+        assertThat(rows)
+                .extracting(PostSummaryRow::id, PostSummaryRow::excerpt, PostSummaryRow::categoryName,
+                        PostSummaryRow::authorFirstName)
+                .containsExactlyInAnyOrder(
+                        tuple(post1.getId(), "Complete guide...", "Backend", "Rodriguez Avalos"),
+                        tuple(post2.getId(), null, "Frontend", "Rodriguez Avalos"));
+
+        List<PostTagRow> tags = postRepository.findTagsByPostIdIn(List.of(post1.getId(), post2.getId()));
+        assertThat(tags)
+                .extracting(PostTagRow::postId, PostTagRow::tagName)
+                .containsExactlyInAnyOrder(tuple(post1.getId(), "Spring Boot"), tuple(post2.getId(), "Java"));
+    }
+
+    @Test
+    void findContentWithoutExcerpt_SkipsBackfilledPosts() {
+        postRepository.updateExcerpt(post1.getId(), "Complete guide...");
+        entityManager.clear();
+
+        List<PostContentRow> pending = postRepository.findContentWithoutExcerpt(Limit.of(10));
+
+        assertThat(pending).extracting(PostContentRow::id)
+                .containsExactlyInAnyOrder(post2.getId(), post3.getId());
+    }
+
+    @Test
+    void findVersionById_ReturnsRowAndEmbeddedRelations() {
+        entityManager.clear();
+
+        assertThat(postRepository.findVersionById(post1.getId())).hasValueSatisfying(row -> {
+            assertThat(row.updateAt()).isNotNull();
+            assertThat(row.authorId()).isEqualTo(author.getId());
+            assertThat(row.categoryName()).isEqualTo("Backend");
+            assertThat(row.categoryPostCount()).isZero();
+        });
+        assertThat(postRepository.findVersionById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void findTagsByPostId_ReturnsIdAndName() {
+        entityManager.clear();
+
+        assertThat(postRepository.findTagsByPostId(post3.getId()))
+                .extracting(PostTagRow::postId, PostTagRow::tagName)
+                .containsExactly(tuple(post3.getId(), "Spring Boot"));
+    }
+
+    private long countStatementsForPage(Pageable pageable) {
+        Statistics statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManager.clear();
+        statistics.clear();
+
+        // Mismo camino que PostServiceImpl.loadPostPage: ids, filas resumen y tags de toda la página
+        Page<UUID> ids = postRepository.findIdsByStatus(PostStatus.PUBLISHED, pageable);
+        List<PostSummaryRow> rows = postRepository.findSummariesByIdIn(ids.getContent());
+        List<PostTagRow> tags = postRepository.findTagsByPostIdIn(ids.getContent());
+
+        assertThat(rows).hasSize(pageable.getPageSize());
+        rows.forEach(row -> {
+            assertThat(row.authorFirstName()).isNotNull();
+            assertThat(row.categoryName()).isNotNull();
+        });
+        assertThat(tags).extracting(PostTagRow::postId).containsExactlyInAnyOrderElementsOf(ids.getContent());
+        return statistics.getPrepareStatementCount();
     }
 }
@@ -8,6 +8,10 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,12 +29,15 @@ public class RefreshTokenRepositoryIntegrationTest {
     private TestEntityManager entityManager;
 
     private RefreshToken refreshToken;
+    private final UUID familyId = UUID.randomUUID();
+    private final byte[] tokenHash = hash("refresh.token");
 
     @BeforeEach
     void setUp() {
         UUID userId = UUID.randomUUID();
         refreshToken = RefreshToken.builder()
-                .token("refresh.token")
+                .tokenHash(tokenHash)
+                .familyId(familyId)
                 .userId(userId)
                 .expiryDate(Instant.now().plusSeconds(3600))
                 .revoked(false)
@@ -44,7 +51,7 @@ public class RefreshTokenRepositoryIntegrationTest {
         RefreshToken savedRefreshToken = refreshTokenRepository.save(refreshToken);
 
         assertThat(savedRefreshToken.getId()).isNotNull();
-        assertThat(savedRefreshToken.getToken()).isEqualTo("refresh.token");
+        assertThat(savedRefreshToken.getTokenHash()).isEqualTo(tokenHash);
     }
 
     @Test
@@ -52,7 +59,7 @@ public class RefreshTokenRepositoryIntegrationTest {
         Optional<RefreshToken> foundRefreshToken = refreshTokenRepository.findById(refreshToken.getId());
 
         assertThat(foundRefreshToken).isPresent();
-        assertThat(foundRefreshToken.get().getToken()).isEqualTo("refresh.token");
+        assertThat(foundRefreshToken.get().getTokenHash()).isEqualTo(tokenHash);
     }
 
     @Test
@@ -64,11 +71,69 @@ public class RefreshTokenRepositoryIntegrationTest {
     }
 
     @Test
-    void findByToken() {
-        Optional<RefreshToken> foundRefreshToken = refreshTokenRepository.findByToken(refreshToken.getToken());
+    void existsByTokenHash() {
+        assertThat(refreshTokenRepository.existsByTokenHash(hash("refresh.token"))).isTrue();
+        assertThat(refreshTokenRepository.existsByTokenHash(hash("other.token"))).isFalse();
+    }
 
-        assertThat(foundRefreshToken).isPresent();
-        assertThat(foundRefreshToken.get().getToken()).isEqualTo("refresh.token");
+    @Test
+    void consume_OnlyFirstCallSucceeds() {
+        assertThat(refreshTokenRepository.consume(tokenHash, Instant.now())).isEqualTo(1);
+        assertThat(refreshTokenRepository.consume(tokenHash, Instant.now())).isZero();
+    }
+
+    @Test
+    void consume_ExpiredToken_ReturnsZero() {
+        assertThat(refreshTokenRepository.consume(tokenHash, Instant.now().plusSeconds(7200))).isZero();
+    }
+
+    @Test
+    void revokeFamily_RevokesEveryActiveToken() {
+        entityManager.persistAndFlush(RefreshToken.builder()
+                .tokenHash(hash("rotated.token"))
+                .familyId(familyId)
+                .userId(refreshToken.getUserId())
+                .expiryDate(Instant.now().plusSeconds(3600))
+                .revoked(false)
+                .build());
+
+        assertThat(refreshTokenRepository.revokeFamily(familyId)).isEqualTo(2);
+        assertThat(refreshTokenRepository.consume(hash("rotated.token"), Instant.now())).isZero();
+    }
+
+    @Test
+    void deleteStaleBatch_DeletesExpiredAndOldRevokedOnly() {
+        Instant now = Instant.now();
+        Duration lifetime = Duration.ofDays(30);
+        // Mismo corte que RefreshTokenSweeper con 72 h de retención de revocados
+        Instant revokedBefore = now.plus(lifetime).minus(Duration.ofHours(72));
+        RefreshToken active = persist("active.token", now.plus(lifetime), false);
+        RefreshToken expired = persist("expired.token", now.minusSeconds(3600), false);
+        RefreshToken recentlyRevoked = persist("recently.revoked.token", now.plus(lifetime).minus(Duration.ofHours(1)), true);
+        RefreshToken oldRevoked = persist("old.revoked.token", now.plus(lifetime).minus(Duration.ofHours(100)), true);
+
+        assertThat(refreshTokenRepository.deleteStaleBatch(now, revokedBefore, 10)).isEqualTo(2);
+        entityManager.clear();
+
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(RefreshToken::getId)
+                .containsExactlyInAnyOrder(refreshToken.getId(), active.getId(), recentlyRevoked.getId())
+                .doesNotContain(expired.getId(), oldRevoked.getId());
+    }
+
+    @Test
+    void deleteStaleBatch_StopsAtBatchSize() {
+        Instant now = Instant.now();
+        for (int i = 0; i < 3; i++) {
+            persist("expired.token." + i, now.minusSeconds(3600), false);
+        }
+
+        assertThat(refreshTokenRepository.deleteStaleBatch(now, now, 2)).isEqualTo(2);
+        assertThat(refreshTokenRepository.deleteStaleBatch(now, now, 2)).isEqualTo(1);
+        assertThat(refreshTokenRepository.deleteStaleBatch(now, now, 2)).isZero();
+        entityManager.clear();
+
+        assertThat(refreshTokenRepository.findAll()).extracting(RefreshToken::getId).containsExactly(refreshToken.getId());
     }
 
     @Test
@@ -81,4 +146,22 @@ public class RefreshTokenRepositoryIntegrationTest {
 
         assertThat(refreshTokenRepository.findById(refreshTokenId)).isEmpty();
     }
+
+    private RefreshToken persist(String token, Instant expiryDate, boolean revoked) {
+        return entityManager.persistAndFlush(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .familyId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .expiryDate(expiryDate)
+                .revoked(revoked)
+                .build());
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
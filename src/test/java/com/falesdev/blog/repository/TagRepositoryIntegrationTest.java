@@ -1,6 +1,11 @@
 package com.falesdev.blog.repository;
 
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.dto.TagDto;
+import com.falesdev.blog.domain.entity.Category;
+import com.falesdev.blog.domain.entity.Post;
 import com.falesdev.blog.domain.entity.Tag;
+import com.falesdev.blog.domain.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +19,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ActiveProfiles("test")
 @DataJpaTest
@@ -102,4 +108,49 @@ public class TagRepositoryIntegrationTest {
                 .extracting(Tag::getName)
                 .containsExactly("Development");
     }
+
+    @Test
+    void findAllWithPostCount_CountsOnlyPublishedPosts() {
+        User author = User.builder()
+                .email("author@example.com")
+                .password("securepass")
+                .firstName("Author")
+                .build();
+        entityManager.persistAndFlush(author);
+
+        Category category = Category.builder().name("Backend").build();
+        entityManager.persistAndFlush(category);
+
+        entityManager.persistAndFlush(Post.builder()
+                .title("Published")
+                .content("Published content")
+                .status(PostStatus.PUBLISHED)
+                .readingTime(1)
+                .author(author)
+                .category(category)
+                .tags(Set.of(tag1, tag2))
+                .build());
+        entityManager.persistAndFlush(Post.builder()
+                .title("Draft")
+                .content("Draft content")
+                .status(PostStatus.DRAFT)
+                .readingTime(1)
+                .author(author)
+                .category(category)
+                .tags(Set.of(tag1))
+                .build());
+        Tag unused = Tag.builder().name("Unused").build();
+        entityManager.persistAndFlush(unused);
+        entityManager.clear();
+
+        List<TagDto> result = tagRepository.findAllWithPostCount(PostStatus.PUBLISHED);
+
+        assertThat(result)
+                .extracting(TagDto::getName, TagDto::getPostCount)
+                .containsExactlyInAnyOrder(
+                        tuple("Development", 1),
+                        tuple("Git", 1),
+                        tuple("Unused", 0)
+                );
+    }
 }
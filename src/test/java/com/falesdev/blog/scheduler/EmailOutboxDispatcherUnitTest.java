@@ -0,0 +1,183 @@
+package com.falesdev.blog.scheduler;
+
+import com.falesdev.blog.domain.EmailStatus;
+import com.falesdev.blog.domain.EmailType;
+import com.falesdev.blog.domain.entity.EmailOutbox;
+import com.falesdev.blog.repository.EmailOutboxRepository;
+import com.falesdev.blog.service.impl.EmailServiceImpl;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// Envío real por SMTP contra un GreenMail en proceso; la tabla outbox se simula con el repositorio
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class EmailOutboxDispatcherUnitTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MS = 60000;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SpringTemplateEngine templateEngine;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+    }
+
+    @Test
+    @DisplayName("Dispatch - Whole batch delivered over SMTP and marked sent")
+    void dispatch_PendingBatch_DeliveredAndMarkedSent() throws Exception {
+        List<EmailOutbox> batch = pending(3, 0);
+        when(emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                eq(EmailStatus.PENDING), any(), any())).thenReturn(batch);
+
+        int delivered = dispatcher(greenMail.getSmtp().getPort()).dispatch();
+
+        assertThat(delivered).isEqualTo(3);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("¡Bienvenido a CyberBlog!");
+        assertThat(batch).allSatisfy(email -> {
+            assertThat(email.getStatus()).isEqualTo(EmailStatus.SENT);
+            assertThat(email.getSentAt()).isNotNull();
+        });
+        verify(emailOutboxRepository).saveAll(batch);
+        assertThat(meterRegistry.get("blog.mail.send").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("blog.mail.outbox.delivered").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Short lease - Raised to cover a batch sent at the SMTP timeouts")
+    void dispatch_LeaseShorterThanWorstCaseSend_ClaimsForWorstCase() {
+        List<EmailOutbox> batch = pending(1, 0);
+        when(emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                eq(EmailStatus.PENDING), any(), any())).thenReturn(batch);
+
+        Instant before = Instant.now();
+        dispatcher(greenMail.getSmtp().getPort()).dispatch();
+
+        // 3 s de conexión + 50 correos * (3 s de lectura + 5 s de escritura), bastante más que los 120 s configurados
+        assertThat(batch.getFirst().getNextAttemptAt()).isAfterOrEqualTo(before.plusMillis(403000));
+    }
+
+    @Test
+    @DisplayName("SMTP unreachable - Rescheduled with backoff, nothing lost")
+    void dispatch_SmtpDown_ReschedulesWithBackoff() throws IOException {
+        List<EmailOutbox> batch = pending(2, 0);
+        when(emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                eq(EmailStatus.PENDING), any(), any())).thenReturn(batch);
+        when(emailOutboxRepository.countByStatus(EmailStatus.PENDING)).thenReturn(2L);
+
+        Instant before = Instant.now();
+        int delivered = dispatcher(unusedPort()).dispatch();
+
+        assertThat(delivered).isZero();
+        assertThat(batch).allSatisfy(email -> {
+            assertThat(email.getStatus()).isEqualTo(EmailStatus.PENDING);
+            assertThat(email.getAttempts()).isEqualTo(1);
+            assertThat(email.getNextAttemptAt()).isAfterOrEqualTo(before.plusMillis(INITIAL_BACKOFF_MS));
+            assertThat(email.getLastError()).isNotBlank();
+        });
+        verify(emailOutboxRepository).saveAll(batch);
+        assertThat(meterRegistry.get("blog.mail.outbox.retried").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("blog.mail.outbox.pending").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Last attempt fails - Marked failed, no more retries")
+    void dispatch_LastAttemptFails_MarksFailed() throws IOException {
+        List<EmailOutbox> batch = pending(1, MAX_ATTEMPTS - 1);
+        when(emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                eq(EmailStatus.PENDING), any(), any())).thenReturn(batch);
+
+        dispatcher(unusedPort()).dispatch();
+
+        assertThat(batch.getFirst().getStatus()).isEqualTo(EmailStatus.FAILED);
+        assertThat(batch.getFirst().getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(meterRegistry.get("blog.mail.outbox.failed").counter().count()).isEqualTo(1);
+    }
+
+    private EmailOutboxDispatcher dispatcher(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpPort);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "1000");
+        EmailServiceImpl emailService = new EmailServiceImpl(mailSender, templateEngine, emailOutboxRepository);
+        return new EmailOutboxDispatcher(emailOutboxRepository, emailService, mailSender, transactionTemplate,
+                meterRegistry, 50, 10, MAX_ATTEMPTS, 120000, INITIAL_BACKOFF_MS, 3600000, 168, 3000, 3000, 5000);
+    }
+
+    private static List<EmailOutbox> pending(int count, int attempts) {
+        Instant now = Instant.now();
+        return IntStream.range(0, count)
+                .mapToObj(i -> EmailOutbox.builder()
+                        .id(UUID.randomUUID())
+                        .type(EmailType.WELCOME)
+                        .recipient("user" + i + "@example.com")
+                        .recipientName("User " + i)
+                        .status(EmailStatus.PENDING)
+                        .attempts(attempts)
+                        .nextAttemptAt(now.minus(Duration.ofSeconds(1)))
+                        .createdAt(now)
+                        .build())
+                .toList();
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.falesdev.blog.scheduler;
+
+import com.falesdev.blog.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenSweeperUnitTest {
+
+    private static final long REFRESH_EXPIRY_MS = Duration.ofDays(30).toMillis();
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RefreshTokenSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        sweeper = new RefreshTokenSweeper(refreshTokenRepository, transactionTemplate, meterRegistry,
+                REFRESH_EXPIRY_MS, 100, 3, 0, 72);
+    }
+
+    @Test
+    @DisplayName("Sweep - Deletes in batches until one comes back partial")
+    void sweep_StopsOnPartialBatch() {
+        when(refreshTokenRepository.deleteStaleBatch(any(), any(), eq(100))).thenReturn(100, 40);
+        when(refreshTokenRepository.count()).thenReturn(12L);
+
+        assertThat(sweeper.sweep()).isEqualTo(140);
+
+        verify(refreshTokenRepository, times(2)).deleteStaleBatch(any(), any(), eq(100));
+        assertThat(meterRegistry.get("blog.auth.refresh-tokens.reclaimed").counter().count()).isEqualTo(140);
+        assertThat(meterRegistry.get("blog.auth.refresh-tokens.rows").gauge().value()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Sweep - Never runs more than the configured batches per run")
+    void sweep_StopsAtMaxBatches() {
+        when(refreshTokenRepository.deleteStaleBatch(any(), any(), anyInt())).thenReturn(100);
+
+        assertThat(sweeper.sweep()).isEqualTo(300);
+
+        verify(refreshTokenRepository, times(3)).deleteStaleBatch(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Sweep - Revoked tokens are kept for the retention window")
+    void sweep_RevokedCutoffHonoursRetention() {
+        Instant before = Instant.now();
+        sweeper.sweep();
+
+        ArgumentCaptor<Instant> now = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> revokedBefore = ArgumentCaptor.forClass(Instant.class);
+        verify(refreshTokenRepository).deleteStaleBatch(now.capture(), revokedBefore.capture(), eq(100));
+        assertThat(now.getValue()).isAfterOrEqualTo(before);
+        assertThat(Duration.between(now.getValue(), revokedBefore.getValue()))
+                .isEqualTo(Duration.ofMillis(REFRESH_EXPIRY_MS).minusHours(72));
+    }
+}
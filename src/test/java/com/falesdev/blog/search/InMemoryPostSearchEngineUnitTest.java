@@ -0,0 +1,116 @@
+package com.falesdev.blog.search;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.entity.Post;
+import com.falesdev.blog.event.PostChangedEvent;
+import com.falesdev.blog.repository.PostRepository;
+import com.falesdev.blog.service.impl.TextStatisticsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class InMemoryPostSearchEngineUnitTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private final Post springPost = Post.builder()
+            .id(UUID.randomUUID())
+            .title("Spring Boot")
+            .content("Configuración de Spring Boot paso a paso")
+            .status(PostStatus.PUBLISHED)
+            .build();
+
+    private InMemoryPostSearchEngine engine(String snapshotPath) {
+        return new InMemoryPostSearchEngine(postRepository, new TextStatisticsServiceImpl(), snapshotPath);
+    }
+
+    @Test
+    @DisplayName("Initialize - Builds from repository and applies changes")
+    void initialize_BuildsIndexAndAppliesEvents() {
+        when(postRepository.findByStatus(eq(PostStatus.PUBLISHED), any()))
+                .thenReturn(new SliceImpl<>(List.of(springPost)));
+        InMemoryPostSearchEngine engine = engine("");
+
+        PostChangedEvent created = new PostChangedEvent(UUID.randomUUID(), PostChangedEvent.ChangeType.CREATED,
+                null, PostStatus.PUBLISHED, "Spring Security", "Filtros de seguridad", Set.of(), Set.of());
+        engine.onPostChanged(created);
+        engine.initialize();
+
+        assertThat(engine.search("spring", PageRequest.of(0, 10)).getContent())
+                .extracting(PostSearchHit::postId)
+                .containsExactlyInAnyOrder(springPost.getId(), created.postId());
+        assertThat(engine.search("configuracion", PageRequest.of(0, 10)).getContent().getFirst().snippet())
+                .contains("<mark>Configuración</mark>");
+
+        engine.onPostChanged(PostChangedEvent.deleted(springPost));
+        engine.onPostChanged(new PostChangedEvent(created.postId(), PostChangedEvent.ChangeType.UPDATED,
+                PostStatus.PUBLISHED, PostStatus.DRAFT, "Spring Security", "Filtros de seguridad", Set.of(), Set.of()));
+
+        assertThat(engine.search("spring", PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Search - Post HTML is escaped, only the highlight is markup")
+    void search_HtmlInContent_Escaped() {
+        when(postRepository.findByStatus(eq(PostStatus.PUBLISHED), any()))
+                .thenReturn(new SliceImpl<>(List.of(Post.builder()
+                        .id(UUID.randomUUID())
+                        .title("XSS")
+                        .content("<img src=x onerror=alert(1)> spring")
+                        .status(PostStatus.PUBLISHED)
+                        .build())));
+        InMemoryPostSearchEngine engine = engine("");
+        engine.initialize();
+
+        assertThat(engine.search("spring", PageRequest.of(0, 10)).getContent().getFirst().snippet())
+                .doesNotContain("<img")
+                .contains("&lt;img")
+                .contains("<mark>spring</mark>");
+    }
+
+    @Test
+    @DisplayName("Snapshot - Restart catches up from snapshot instead of rebuilding")
+    void initialize_WithSnapshot_CatchesUpWithoutRebuild() {
+        String snapshot = tempDir.resolve("posts.idx").toString();
+        when(postRepository.findByStatus(eq(PostStatus.PUBLISHED), any()))
+                .thenReturn(new SliceImpl<>(List.of(springPost)));
+        InMemoryPostSearchEngine first = engine(snapshot);
+        first.initialize();
+        first.writeSnapshot();
+
+        when(postRepository.findAllIdsByStatus(eq(PostStatus.PUBLISHED))).thenReturn(List.of(springPost.getId()));
+        when(postRepository.findByStatusAndUpdateAtAfter(eq(PostStatus.PUBLISHED), any(), any()))
+                .thenReturn(new SliceImpl<>(List.of()));
+        InMemoryPostSearchEngine restarted = engine(snapshot);
+        restarted.initialize();
+
+        assertThat(restarted.search("boot", PageRequest.of(0, 10)).getContent())
+                .extracting(PostSearchHit::postId)
+                .containsExactly(springPost.getId());
+        verify(postRepository, never()).findAllById(any());
+    }
+}
@@ -0,0 +1,95 @@
+package com.falesdev.blog.search;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.entity.Post;
+import com.falesdev.blog.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class LikePostSearchEngineUnitTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private LikePostSearchEngine searchEngine;
+
+    @Test
+    @DisplayName("Search - Title matches rank above content matches")
+    void search_TitleMatch_RanksHigher() {
+        Post titleMatch = Post.builder().id(UUID.randomUUID()).title("Spring Guide").content("All about it").build();
+        Post contentMatch = Post.builder().id(UUID.randomUUID()).title("Other").content("A spring primer").build();
+
+        when(postRepository.searchByTitleOrContent(eq(PostStatus.PUBLISHED), eq("spring"), any()))
+                .thenReturn(new PageImpl<>(List.of(titleMatch, contentMatch)));
+
+        Page<PostSearchHit> hits = searchEngine.search(" spring ", PageRequest.of(0, 10));
+
+        assertThat(hits.getContent())
+                .extracting(PostSearchHit::postId, PostSearchHit::rank)
+                .containsExactly(
+                        tuple(titleMatch.getId(), 2.0),
+                        tuple(contentMatch.getId(), 1.0)
+                );
+        assertThat(hits.getContent().get(1).snippet()).isEqualTo("A <mark>spring</mark> primer");
+    }
+
+    @Test
+    @DisplayName("Search - Snippet is trimmed around the match")
+    void search_LongContent_SnippetAroundMatch() {
+        String content = "x".repeat(300) + " Needle " + "y".repeat(300);
+        Post post = Post.builder().id(UUID.randomUUID()).title("Haystack").content(content).build();
+
+        when(postRepository.searchByTitleOrContent(eq(PostStatus.PUBLISHED), eq("needle"), any()))
+                .thenReturn(new PageImpl<>(List.of(post)));
+
+        String snippet = searchEngine.search("needle", PageRequest.of(0, 10)).getContent().getFirst().snippet();
+
+        assertThat(snippet)
+                .startsWith("...")
+                .endsWith("...")
+                .contains("<mark>Needle</mark>")
+                .hasSizeLessThan(content.length());
+    }
+
+    @Test
+    @DisplayName("Search - Post HTML is escaped, only the highlight is markup")
+    void search_HtmlInContent_Escaped() {
+        Post post = Post.builder().id(UUID.randomUUID()).title("Other")
+                .content("<script>alert('x')</script> spring & co").build();
+
+        when(postRepository.searchByTitleOrContent(eq(PostStatus.PUBLISHED), eq("spring"), any()))
+                .thenReturn(new PageImpl<>(List.of(post)));
+
+        assertThat(searchEngine.search("spring", PageRequest.of(0, 10)).getContent().getFirst().snippet())
+                .isEqualTo("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; <mark>spring</mark> &amp; co");
+    }
+
+    @Test
+    @DisplayName("Search - LIKE wildcards in the query are escaped")
+    void search_WildcardsInQuery_Escaped() {
+        when(postRepository.searchByTitleOrContent(eq(PostStatus.PUBLISHED), eq("100\\% of\\_x"), any()))
+                .thenReturn(Page.empty());
+
+        assertThat(searchEngine.search("100% of_x", PageRequest.of(0, 10))).isEmpty();
+    }
+}
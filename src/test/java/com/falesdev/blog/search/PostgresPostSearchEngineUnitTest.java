@@ -0,0 +1,21 @@
+package com.falesdev.blog.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+public class PostgresPostSearchEngineUnitTest {
+
+    @Test
+    @DisplayName("Headline - Content escaped, control markers become <mark>")
+    void toHtml_EscapesContentAndConvertsMarkers() {
+        String headline = "<b onclick=\"x\">\u0002Spring\u0003</b> & más";
+
+        assertThat(PostgresPostSearchEngine.toHtml(headline))
+                .isEqualTo("&lt;b onclick=&quot;x&quot;&gt;<mark>Spring</mark>&lt;/b&gt; &amp; más");
+        assertThat(PostgresPostSearchEngine.toHtml(null)).isEmpty();
+    }
+}
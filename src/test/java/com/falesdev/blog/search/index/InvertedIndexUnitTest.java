@@ -0,0 +1,110 @@
+package com.falesdev.blog.search.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ActiveProfiles("test")
+public class InvertedIndexUnitTest {
+
+    private final UUID springPost = UUID.randomUUID();
+    private final UUID angularPost = UUID.randomUUID();
+    private final UUID mixedPost = UUID.randomUUID();
+
+    private InvertedIndex sampleIndex() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(springPost, "Guía de Spring Boot", "Spring Boot simplifica la configuración de Spring.", "spring");
+        index.put(angularPost, "Angular para principiantes", "Componentes, servicios y rutas.", "angular");
+        index.put(mixedPost, "Full stack", "Un backend en Spring y un frontend en Angular.", "mixed");
+        return index;
+    }
+
+    @Test
+    @DisplayName("Tokenizer - Lowercases, strips accents and splits on punctuation")
+    void tokenize_NormalizesText() {
+        assertThat(Tokenizer.tokenize("¡Búsqueda RÁPIDA, en-línea! a 42"))
+                .containsExactly("busqueda", "rapida", "en", "linea", "42");
+    }
+
+    @Test
+    @DisplayName("Search - BM25 ranks title and repeated matches first")
+    void search_RanksByRelevance() {
+        InvertedIndex.SearchResult result = sampleIndex().search("spring", 0, 10);
+
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.hits()).extracting(InvertedIndex.Hit::postId).containsExactly(springPost, mixedPost);
+        assertThat(result.hits().get(0).score()).isGreaterThan(result.hits().get(1).score());
+    }
+
+    @Test
+    @DisplayName("Search - Accent-insensitive and paged")
+    void search_AccentInsensitiveAndPaged() {
+        InvertedIndex index = sampleIndex();
+
+        assertThat(index.search("GUIA", 0, 10).hits())
+                .extracting(InvertedIndex.Hit::postId).containsExactly(springPost);
+
+        InvertedIndex.SearchResult secondPage = index.search("spring angular", 1, 1);
+        assertThat(secondPage.totalHits()).isEqualTo(3);
+        assertThat(secondPage.hits()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Update and remove - Old terms stop matching")
+    void putAndRemove_ReplaceDocuments() {
+        InvertedIndex index = sampleIndex();
+
+        index.put(angularPost, "Vue para principiantes", "Componentes reactivos.", "vue");
+        assertThat(index.search("angular", 0, 10).hits())
+                .extracting(InvertedIndex.Hit::postId).containsExactly(mixedPost);
+        assertThat(index.search("vue", 0, 10).hits())
+                .extracting(InvertedIndex.Hit::postId).containsExactly(angularPost);
+
+        assertThat(index.remove(mixedPost)).isTrue();
+        assertThat(index.remove(mixedPost)).isFalse();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("frontend", 0, 10).hits()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Compaction - Many updates keep results correct")
+    void put_ManyUpdates_CompactsWithoutLosingDocuments() {
+        InvertedIndex index = sampleIndex();
+        for (int i = 0; i < 3000; i++) {
+            index.put(springPost, "Guía de Spring Boot " + i, "Spring Boot revisión " + i, "spring");
+        }
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("revision", 0, 10).hits())
+                .extracting(InvertedIndex.Hit::postId).containsExactly(springPost);
+        assertThat(index.search("angular", 0, 10).totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Snapshot - Round trip preserves results")
+    void writeAndRead_RoundTripPreservesResults() throws IOException {
+        InvertedIndex index = sampleIndex();
+        index.remove(angularPost);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        InvertedIndex restored = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.postIds()).containsExactlyInAnyOrder(springPost, mixedPost);
+        assertThat(restored.search("spring", 0, 10).hits())
+                .extracting(InvertedIndex.Hit::postId, InvertedIndex.Hit::excerpt)
+                .containsExactlyElementsOf(index.search("spring", 0, 10).hits().stream()
+                        .map(hit -> tuple(hit.postId(), hit.excerpt()))
+                        .toList());
+    }
+}
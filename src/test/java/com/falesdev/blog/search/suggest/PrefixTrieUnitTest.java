@@ -0,0 +1,67 @@
+package com.falesdev.blog.search.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+public class PrefixTrieUnitTest {
+
+    private final PrefixTrie trie = new PrefixTrie(10);
+
+    private PrefixTrie.Entry add(String text, long weight) {
+        PrefixTrie.Entry entry = new PrefixTrie.Entry(UUID.randomUUID(), text, weight);
+        PrefixTrie.keys(text, 6).forEach(key -> trie.add(key, entry));
+        return entry;
+    }
+
+    @Test
+    @DisplayName("Normalize - Lowercases, strips accents and collapses separators")
+    void normalize_FoldsCaseAccentsAndSeparators() {
+        assertThat(PrefixTrie.normalize("  Guía:  Spring-Boot ")).isEqualTo("guia spring boot");
+        assertThat(PrefixTrie.keys("Guía de Spring", 6)).containsExactly("guia de spring", "de spring", "spring");
+    }
+
+    @Test
+    @DisplayName("Search - Returns best weighted matches for a prefix, also on inner words")
+    void search_ReturnsTopByWeight() {
+        PrefixTrie.Entry springBoot = add("Spring Boot Guide", 30);
+        PrefixTrie.Entry springSecurity = add("Spring Security", 20);
+        PrefixTrie.Entry learnSpring = add("Learn Spring fast", 10);
+        add("Angular", 50);
+
+        assertThat(trie.search("spr", 10)).containsExactly(springBoot, springSecurity, learnSpring);
+        assertThat(trie.search("SPRING S", 10)).containsExactly(springSecurity);
+        assertThat(trie.search("spr", 2)).containsExactly(springBoot, springSecurity);
+        assertThat(trie.search("boot", 10)).containsExactly(springBoot);
+        assertThat(trie.search("springx", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Search - Same entry reachable by several keys is returned once")
+    void search_DeduplicatesEntries() {
+        PrefixTrie.Entry entry = add("Spring and Spring Boot", 5);
+
+        assertThat(trie.search("spring", 10)).containsExactly(entry);
+    }
+
+    @Test
+    @DisplayName("Remove - Entry disappears and the remaining keys still match")
+    void remove_PrunesAndRecomputesTop() {
+        PrefixTrie.Entry springBoot = add("Spring Boot", 30);
+        PrefixTrie.Entry springData = add("Spring Data", 20);
+
+        PrefixTrie.keys("Spring Boot", 6).forEach(key -> trie.remove(key, springBoot.id()));
+
+        assertThat(trie.search("spring", 10)).containsExactly(springData);
+        assertThat(trie.search("spring d", 10)).containsExactly(springData);
+        assertThat(trie.search("boot", 10)).isEmpty();
+
+        PrefixTrie.Entry springBatch = add("Spring Batch", 40);
+        assertThat(trie.search("spring", 10)).containsExactly(springBatch, springData);
+    }
+}
@@ -0,0 +1,154 @@
+package com.falesdev.blog.security.auth;
+
+import com.falesdev.blog.domain.entity.RevokedAccessToken;
+import com.falesdev.blog.repository.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class AccessTokenRevocationListUnitTest {
+
+    @Mock
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccessTokenRevocationList revocationList;
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        revocationList = new AccessTokenRevocationList(revokedAccessTokenRepository, meterRegistry, 16, 0.01);
+    }
+
+    @Test
+    @DisplayName("Revoke token - Persisted and rejected from then on")
+    void revoke_LiveToken_PersistsAndIsRevoked() {
+        UUID jti = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(600);
+
+        revocationList.revoke(jti, userId, expiresAt);
+
+        ArgumentCaptor<RevokedAccessToken> saved = ArgumentCaptor.forClass(RevokedAccessToken.class);
+        verify(revokedAccessTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getJti()).isEqualTo(jti);
+        assertThat(saved.getValue().getExpiresAt()).isEqualTo(expiresAt);
+        assertThat(revocationList.isRevoked(jti.toString())).isTrue();
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString())).isFalse();
+        assertThat(revocationList.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Revoke inside a transaction - Only applied in memory after commit")
+    void revoke_InTransaction_AppliedAfterCommit() {
+        UUID jti = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            revocationList.revoke(jti, userId, Instant.now().plusSeconds(600));
+
+            assertThat(revocationList.isRevoked(jti.toString())).isFalse();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(revocationList.isRevoked(jti.toString())).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Revoke inside a transaction that rolls back - Never applied in memory")
+    void revoke_RolledBack_NotRevoked() {
+        UUID jti = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            revocationList.revoke(jti, userId, Instant.now().plusSeconds(600));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(revocationList.isRevoked(jti.toString())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Revoke already expired token - Nothing stored")
+    void revoke_ExpiredToken_Ignored() {
+        UUID jti = UUID.randomUUID();
+
+        revocationList.revoke(jti, userId, Instant.now().minusSeconds(1));
+
+        verify(revokedAccessTokenRepository, never()).save(any());
+        assertThat(revocationList.isRevoked(jti.toString())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Load on startup - Revocations survive a restart")
+    void load_PersistedRevocations_AreRevoked() {
+        UUID jti = UUID.randomUUID();
+        when(revokedAccessTokenRepository.findByExpiresAtAfter(any()))
+                .thenReturn(List.of(revoked(jti, Instant.now().plusSeconds(600))));
+
+        revocationList.load();
+
+        assertThat(revocationList.isRevoked(jti.toString())).isTrue();
+    }
+
+    @Test
+    @DisplayName("More revocations than expected - Filter grows, none missed")
+    void revoke_BeyondExpectedCapacity_AllRevoked() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        List<UUID> jtis = Stream.generate(UUID::randomUUID).limit(100).toList();
+
+        jtis.forEach(jti -> revocationList.revoke(jti, userId, expiresAt));
+
+        assertThat(jtis).allMatch(jti -> revocationList.isRevoked(jti.toString()));
+        assertThat(meterRegistry.get("blog.auth.access-tokens.revoked").gauge().value()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Sync - Picks up other instances' revocations and prunes expired ones")
+    void sync_MergesRemoteAndPrunesExpired() {
+        // Cargado justo antes de caducar
+        UUID expired = UUID.randomUUID();
+        when(revokedAccessTokenRepository.findByExpiresAtAfter(any()))
+                .thenReturn(List.of(revoked(expired, Instant.now().minusSeconds(1))));
+        revocationList.load();
+        UUID remote = UUID.randomUUID();
+        when(revokedAccessTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(revoked(remote, Instant.now().plusSeconds(600))));
+
+        revocationList.sync();
+
+        assertThat(revocationList.isRevoked(remote.toString())).isTrue();
+        assertThat(revocationList.isRevoked(expired.toString())).isFalse();
+        verify(revokedAccessTokenRepository).deleteExpired(any());
+    }
+
+    private RevokedAccessToken revoked(UUID jti, Instant expiresAt) {
+        return RevokedAccessToken.builder()
+                .jti(jti)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .revokedAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.falesdev.blog.security.auth;
+
+import com.falesdev.blog.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+public class LoginRateLimiterUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private LoginRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        rateLimiter = new LoginRateLimiter(meterRegistry,
+                new LoginRateLimiter.Limit(3, 6),
+                new LoginRateLimiter.Limit(10, 60),
+                1000, clock::get);
+    }
+
+    @Test
+    @DisplayName("Burst on one email - Throttled once the bucket is empty")
+    void acquire_EmailBurst_ThrottledWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire("user@example.com", "10.0.0." + i);
+        }
+
+        assertThatThrownBy(() -> rateLimiter.acquire("USER@example.com", "10.0.0.9"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting(ex -> ((TooManyRequestsException) ex).getRetryAfterSeconds())
+                .isEqualTo(10L);
+        assertThat(meterRegistry.get("blog.auth.login.throttled").tag("key", "email").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Tokens refill over time - Allowed again")
+    void acquire_AfterRefill_Allowed() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire("user@example.com", "10.0.0.1");
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThatCode(() -> rateLimiter.acquire("user@example.com", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("One IP rotating emails - Throttled by IP")
+    void acquire_IpBurstAcrossEmails_ThrottledByIp() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> rateLimiter.acquire("other@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> rateLimiter.acquire("other@example.com", "10.0.0.2")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("blog.auth.login.throttled").tag("key", "ip").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,71 @@
+package com.falesdev.blog.security.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+public class PrincipalCacheUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(100, 60, meterRegistry);
+        loads = new AtomicInteger();
+        loader = subject -> {
+            loads.incrementAndGet();
+            return User.withUsername(subject).password("").roles("USER").build();
+        };
+    }
+
+    @Test
+    @DisplayName("Same subject and issued-at - Loaded once")
+    void get_SameToken_LoadsOnce() {
+        Date issuedAt = new Date();
+
+        UserDetails first = principalCache.get("user@example.com", issuedAt, loader);
+        UserDetails second = principalCache.get("user@example.com", issuedAt, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("New issued-at - Loads a fresh principal")
+    void get_NewIssuedAt_LoadsAgain() {
+        principalCache.get("user@example.com", new Date(1_000), loader);
+        principalCache.get("user@example.com", new Date(2_000), loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Invalidate subject - Evicts every token of that subject only")
+    void invalidate_Subject_EvictsOnlyThatSubject() {
+        principalCache.get("user@example.com", new Date(1_000), loader);
+        principalCache.get("user@example.com", new Date(2_000), loader);
+        principalCache.get("other@example.com", new Date(1_000), loader);
+
+        principalCache.invalidate("USER@example.com");
+        principalCache.get("user@example.com", new Date(1_000), loader);
+        principalCache.get("other@example.com", new Date(1_000), loader);
+
+        assertThat(loads).hasValue(4);
+    }
+}
@@ -0,0 +1,37 @@
+package com.falesdev.blog.security.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+public class RevocationBloomFilterUnitTest {
+
+    @Test
+    @DisplayName("Inserted ids - Never reported absent")
+    void mightContain_InsertedIds_AlwaysTrue() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(1000, 0.01);
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(1000).toList();
+
+        ids.forEach(filter::put);
+
+        assertThat(ids).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("Unknown ids - False positives close to the configured rate")
+    void mightContain_UnknownIds_FalsePositiveRateBounded() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(1000, 0.01);
+        Stream.generate(UUID::randomUUID).limit(1000).forEach(filter::put);
+
+        long falsePositives = Stream.generate(UUID::randomUUID).limit(10000).filter(filter::mightContain).count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
@@ -0,0 +1,144 @@
+package com.falesdev.blog.security.auth;
+
+import com.falesdev.blog.domain.entity.TokenRevocation;
+import com.falesdev.blog.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationRegistryUnitTest {
+
+    private static final long TOKEN_LIFETIME_MS = 3600000;
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenRevocationRegistry(tokenRevocationRepository, TOKEN_LIFETIME_MS);
+    }
+
+    @Test
+    @DisplayName("Tokens issued before revocation - Revoked")
+    void isRevoked_IssuedBeforeRevocation_ReturnsTrue() {
+        Instant now = Instant.now();
+        registry.revokeIssuedBefore("user@example.com", now);
+
+        assertThat(registry.isRevoked("USER@example.com", Date.from(now.minusSeconds(60)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Tokens issued after revocation - Still valid")
+    void isRevoked_IssuedAfterRevocation_ReturnsFalse() {
+        Instant now = Instant.now();
+        registry.revokeIssuedBefore("user@example.com", now);
+
+        assertThat(registry.isRevoked("user@example.com", Date.from(now.plusSeconds(2)))).isFalse();
+        assertThat(registry.isRevoked("other@example.com", Date.from(now.minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Token issued in the same second right after revocation - Still valid")
+    void isRevoked_IssuedSameSecondAfterRevocation_ReturnsFalse() {
+        Instant revokedAt = Instant.parse("2026-01-01T10:00:00.300Z");
+        registry.revokeIssuedBefore("user@example.com", revokedAt);
+
+        assertThat(registry.isRevoked("user@example.com", Date.from(revokedAt.plusMillis(200)))).isFalse();
+        assertThat(registry.isRevoked("user@example.com", Date.from(revokedAt.minusMillis(200)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Revoke - Persisted until the last earlier token expires")
+    void revokeIssuedBefore_PersistsRevocation() {
+        Instant now = Instant.now();
+
+        registry.revokeIssuedBefore("User@Example.com", now);
+
+        ArgumentCaptor<TokenRevocation> saved = ArgumentCaptor.forClass(TokenRevocation.class);
+        verify(tokenRevocationRepository).save(saved.capture());
+        assertThat(saved.getValue().getSubject()).isEqualTo("user@example.com");
+        assertThat(saved.getValue().getExpiresAt())
+                .isEqualTo(saved.getValue().getRevokedBefore().plusMillis(TOKEN_LIFETIME_MS));
+    }
+
+    @Test
+    @DisplayName("Revoke older than the stored one - Stored revocation kept")
+    void revokeIssuedBefore_OlderThanStored_NotOverwritten() {
+        Instant now = Instant.now();
+        when(tokenRevocationRepository.findById("user@example.com")).thenReturn(Optional.of(
+                revocation("user@example.com", now.plusSeconds(60))));
+
+        registry.revokeIssuedBefore("user@example.com", now);
+
+        verify(tokenRevocationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Revoke inside a transaction that rolls back - Never applied in memory")
+    void revokeIssuedBefore_RolledBack_NotRevoked() {
+        Instant now = Instant.now();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            registry.revokeIssuedBefore("user@example.com", now);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(registry.isRevoked("user@example.com", Date.from(now.minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Load on startup - Revocations survive a restart")
+    void load_PersistedRevocations_AreRevoked() {
+        Instant now = Instant.now();
+        when(tokenRevocationRepository.findByExpiresAtAfter(any()))
+                .thenReturn(List.of(revocation("user@example.com", now)));
+
+        registry.load();
+
+        assertThat(registry.isRevoked("user@example.com", Date.from(now.minusSeconds(60)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Sync - Picks up other instances' revocations and deletes expired rows")
+    void sync_MergesRemoteAndDeletesExpired() {
+        Instant now = Instant.now();
+        when(tokenRevocationRepository.findByRevokedBeforeAfterAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(revocation("remote@example.com", now)));
+
+        registry.sync();
+
+        assertThat(registry.isRevoked("remote@example.com", Date.from(now.minusSeconds(60)))).isTrue();
+        verify(tokenRevocationRepository).deleteExpired(any());
+    }
+
+    private static TokenRevocation revocation(String subject, Instant revokedBefore) {
+        return TokenRevocation.builder()
+                .subject(subject)
+                .revokedBefore(revokedBefore)
+                .expiresAt(revokedBefore.plusMillis(TOKEN_LIFETIME_MS))
+                .build();
+    }
+}
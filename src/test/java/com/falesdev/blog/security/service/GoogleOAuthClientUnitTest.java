@@ -0,0 +1,171 @@
+package com.falesdev.blog.security.service;
+
+import com.falesdev.blog.config.GoogleAuthConfig;
+import com.falesdev.blog.exception.AuthenticationException;
+import com.falesdev.blog.exception.ExternalServiceException;
+import com.falesdev.blog.exception.ServiceUnavailableException;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Google sustituido por un HttpServer local: token y certificados apuntan a él
+@ActiveProfiles("test")
+public class GoogleOAuthClientUnitTest {
+
+    private static final String TOKEN_RESPONSE =
+            "{\"access_token\":\"access\",\"token_type\":\"Bearer\",\"expires_in\":3600,\"id_token\":\"id.token.value\"}";
+
+    private HttpServer server;
+    private String baseUrl;
+    private ApacheHttpTransport transport;
+    private SimpleMeterRegistry meterRegistry;
+    private GoogleOAuthClient client;
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private final AtomicReference<Behaviour> behaviour = new AtomicReference<>(Behaviour.OK);
+
+    private enum Behaviour { OK, INVALID_GRANT, ERROR, SLOW }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/token", this::handleToken);
+        server.createContext("/certs", exchange -> respond(exchange, 503, "{}"));
+        server.createContext("/slow-certs", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        transport = new GoogleAuthConfig().googleHttpTransport(4, 60000, 500, 300);
+        meterRegistry = new SimpleMeterRegistry();
+        client = new GoogleOAuthClient(transport, meterRegistry, "client-id", "secret",
+                baseUrl + "/token", baseUrl + "/certs",
+                List.of("https://accounts.google.com"),
+                500, 300, 4, 100, 2, 200);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.stop(0);
+        transport.shutdown();
+    }
+
+    @Test
+    @DisplayName("Exchange code - Token response from the configured endpoint")
+    void exchangeCode_ValidCode_ReturnsTokens() {
+        assertThat(client.exchangeCode("code").getIdToken()).isEqualTo("id.token.value");
+        assertThat(tokenRequests).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Rejected code - Authentication error, circuit stays closed")
+    void exchangeCode_InvalidGrant_DoesNotOpenCircuit() {
+        behaviour.set(Behaviour.INVALID_GRANT);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.exchangeCode("bad")).isInstanceOf(AuthenticationException.class);
+        }
+
+        behaviour.set(Behaviour.OK);
+        assertThat(client.exchangeCode("code").getIdToken()).isEqualTo("id.token.value");
+    }
+
+    @Test
+    @DisplayName("Slow Google - Read timeout instead of a pinned thread")
+    void exchangeCode_SlowEndpoint_TimesOut() {
+        behaviour.set(Behaviour.SLOW);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.exchangeCode("code")).isInstanceOf(ExternalServiceException.class);
+        assertThat(System.nanoTime() - start).isLessThan(1_500_000_000L);
+    }
+
+    @Test
+    @DisplayName("Repeated failures - Circuit opens and calls fail fast without reaching Google")
+    void exchangeCode_FailuresOverThreshold_OpensCircuit() throws InterruptedException {
+        behaviour.set(Behaviour.ERROR);
+        assertThatThrownBy(() -> client.exchangeCode("code")).isInstanceOf(ExternalServiceException.class);
+        assertThatThrownBy(() -> client.exchangeCode("code")).isInstanceOf(ExternalServiceException.class);
+
+        assertThatThrownBy(() -> client.exchangeCode("code")).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(tokenRequests).hasValue(2);
+        assertThat(meterRegistry.get("blog.auth.google.circuit.open").gauge().value()).isEqualTo(1);
+
+        // Tras el plazo, una llamada de prueba con éxito cierra el circuito
+        behaviour.set(Behaviour.OK);
+        Thread.sleep(250);
+        assertThat(client.exchangeCode("code").getIdToken()).isEqualTo("id.token.value");
+        assertThat(meterRegistry.get("blog.auth.google.circuit.open").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Certificate refresh fails - Logged, never thrown")
+    void refreshCertificates_EndpointDown_KeepsRunning() {
+        client.refreshCertificates();
+
+        assertThatThrownBy(() -> client.verify("not-a-jwt")).isInstanceOf(AuthenticationException.class);
+    }
+
+    @Test
+    @DisplayName("Slow certificate endpoint - Refresh bounded by the transport timeouts")
+    void refreshCertificates_SlowEndpoint_TimesOut() {
+        GoogleOAuthClient slowCerts = new GoogleOAuthClient(transport, new SimpleMeterRegistry(), "client-id", "secret",
+                baseUrl + "/token", baseUrl + "/slow-certs",
+                List.of("https://accounts.google.com"),
+                500, 300, 4, 100, 2, 200);
+
+        long start = System.nanoTime();
+        slowCerts.refreshCertificates();
+        assertThat(System.nanoTime() - start).isLessThan(1_500_000_000L);
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        tokenRequests.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        switch (behaviour.get()) {
+            case OK -> respond(exchange, 200, TOKEN_RESPONSE);
+            case INVALID_GRANT -> respond(exchange, 400, "{\"error\":\"invalid_grant\"}");
+            case ERROR -> respond(exchange, 500, "{\"error\":\"internal_failure\"}");
+            case SLOW -> {
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, 200, TOKEN_RESPONSE);
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -1,16 +1,253 @@
 package com.falesdev.blog.service;
 
+import com.falesdev.blog.domain.entity.User;
+import com.falesdev.blog.exception.InvalidRefreshTokenException;
+import com.falesdev.blog.mapper.RoleMapper;
+import com.falesdev.blog.repository.RoleRepository;
+import com.falesdev.blog.repository.UserRepository;
+import com.falesdev.blog.security.BlogUserDetails;
+import com.falesdev.blog.security.auth.AccessTokenRevocationList;
+import com.falesdev.blog.security.auth.PrincipalCache;
+import com.falesdev.blog.security.auth.TokenRevocationRegistry;
+import com.falesdev.blog.security.service.GoogleOAuthClient;
+import com.falesdev.blog.security.service.OAuth2UserManagementService;
+import com.falesdev.blog.service.impl.AuthenticationServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
 public class AuthenticationServiceImplUnitTest {
 
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private RoleMapper roleMapper;
+
+    @Mock
+    private OAuth2UserManagementService oAuth2UserManagementService;
+
+    @Mock
+    private GoogleOAuthClient googleOAuthClient;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Mock
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @InjectMocks
+    private AuthenticationServiceImpl authenticationService;
+
+    private final String accessToken = "access.token";
+    private final String refreshToken = "refresh.token";
+    private final String email = "test@example.com";
+    private final UUID userId = UUID.randomUUID();
+    private final UUID jti = UUID.randomUUID();
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        claims = Jwts.claims();
+        claims.setId(jti.toString());
+        claims.setSubject(email);
+        claims.put("typ", "access");
+        claims.setIssuedAt(new Date());
+        claims.setExpiration(Date.from(Instant.now().plusSeconds(600)));
+        claims.put("userId", userId.toString());
+    }
+
+    @Test
+    @DisplayName("Logout - Refresh family revoked first, then the access token by jti")
+    void logout_OwnRefreshToken_RevokesBoth() {
+        when(jwtService.parseClaims(accessToken)).thenReturn(claims);
+
+        authenticationService.logout(accessToken, refreshToken);
+
+        InOrder inOrder = inOrder(refreshTokenService, accessTokenRevocationList);
+        inOrder.verify(refreshTokenService).revoke(refreshToken, userId);
+        inOrder.verify(accessTokenRevocationList).revoke(jti, userId, claims.getExpiration().toInstant());
+        verifyNoInteractions(tokenRevocationRegistry);
+    }
+
+    @Test
+    @DisplayName("Logout with an invalid or foreign refresh token - Nothing revoked")
+    void logout_InvalidRefreshToken_RevokesNothing() {
+        when(jwtService.parseClaims(accessToken)).thenReturn(claims);
+        doThrow(new InvalidRefreshTokenException("Invalid refresh token"))
+                .when(refreshTokenService).revoke(refreshToken, userId);
+
+        assertThatThrownBy(() -> authenticationService.logout(accessToken, refreshToken))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verifyNoInteractions(accessTokenRevocationList, tokenRevocationRegistry);
+    }
+
+    @Test
+    @DisplayName("Logout without refresh token - Only the access token revoked")
+    void logout_WithoutRefreshToken_RevokesAccessToken() {
+        when(jwtService.parseClaims(accessToken)).thenReturn(claims);
+
+        authenticationService.logout(accessToken, null);
+
+        verify(accessTokenRevocationList).revoke(eq(jti), eq(userId), any(Instant.class));
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    @Test
+    @DisplayName("Logout with a token issued before jti - All user's earlier tokens revoked")
+    void logout_LegacyTokenWithoutJti_RevokesIssuedBefore() {
+        claims.setId(null);
+        when(jwtService.parseClaims(accessToken)).thenReturn(claims);
+
+        authenticationService.logout(accessToken, null);
+
+        verify(tokenRevocationRegistry).revokeIssuedBefore(eq(email), any(Instant.class));
+        verifyNoInteractions(accessTokenRevocationList);
+    }
+
+    @Test
+    @DisplayName("Logout with an invalid access token - Unauthorized, nothing revoked")
+    void logout_InvalidAccessToken_ThrowsUnauthorized() {
+        when(jwtService.parseClaims(accessToken)).thenThrow(new JwtException("bad signature"));
+
+        assertThatThrownBy(() -> authenticationService.logout(accessToken, refreshToken))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+
+        verifyNoInteractions(refreshTokenService, accessTokenRevocationList, tokenRevocationRegistry);
+    }
+
+    @Test
+    @DisplayName("Logout authenticated with a refresh token - Unauthorized, nothing revoked")
+    void logout_RefreshTokenAsAccessToken_ThrowsUnauthorized() {
+        claims.put("typ", "refresh");
+        claims.put("fid", UUID.randomUUID().toString());
+        when(jwtService.parseClaims(accessToken)).thenReturn(claims);
+
+        assertThatThrownBy(() -> authenticationService.logout(accessToken, refreshToken))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+
+        verifyNoInteractions(refreshTokenService, accessTokenRevocationList, tokenRevocationRegistry);
+    }
+
+    @Test
+    @DisplayName("Refresh token used as Bearer - Unauthorized")
+    void validateToken_RefreshToken_ThrowsUnauthorized() {
+        claims.put("typ", "refresh");
+        claims.put("fid", UUID.randomUUID().toString());
+        when(jwtService.parseClaims(refreshToken)).thenReturn(claims);
+
+        assertThatThrownBy(() -> authenticationService.validateToken(refreshToken))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+
+        verifyNoInteractions(principalCache, userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Refresh token issued before typ used as Bearer - Unauthorized")
+    void validateToken_LegacyRefreshToken_ThrowsUnauthorized() {
+        claims.remove("typ");
+        claims.put("fid", UUID.randomUUID().toString());
+        when(jwtService.parseClaims(refreshToken)).thenReturn(claims);
+
+        assertThatThrownBy(() -> authenticationService.validateToken(refreshToken))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+
+        verifyNoInteractions(principalCache, userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Validate token with a revoked jti - Unauthorized")
+    void validateToken_RevokedJti_ThrowsUnauthorized() {
+        when(jwtService.parseClaims(accessToken)).thenReturn(claims);
+        when(accessTokenRevocationList.isRevoked(jti.toString())).thenReturn(true);
+
+        assertThatThrownBy(() -> authenticationService.validateToken(accessToken))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+
+        verifyNoInteractions(principalCache);
+    }
+
+    @Test
+    @DisplayName("Validate live token - Principal resolved")
+    void validateToken_LiveToken_ReturnsPrincipal() {
+        UserDetails userDetails = new BlogUserDetails(User.builder().id(userId).email(email).build());
+        when(jwtService.parseClaims(accessToken)).thenReturn(claims);
+        when(principalCache.get(eq(email), eq(claims.getIssuedAt()), any())).thenReturn(userDetails);
+
+        assertThat(authenticationService.validateToken(accessToken)).isSameAs(userDetails);
+        verify(accessTokenRevocationList).isRevoked(jti.toString());
+    }
+
+    @Test
+    @DisplayName("Validate token with iat_ms - Revocation checked at millisecond precision")
+    void validateToken_IssuedAtMillis_UsedForRevocationCheck() {
+        long issuedAtMs = claims.getIssuedAt().getTime() + 750;
+        claims.put("iat_ms", issuedAtMs);
+        UserDetails userDetails = new BlogUserDetails(User.builder().id(userId).email(email).build());
+        when(jwtService.parseClaims(accessToken)).thenReturn(claims);
+        when(principalCache.get(eq(email), eq(new Date(issuedAtMs)), any())).thenReturn(userDetails);
+
+        assertThat(authenticationService.validateToken(accessToken)).isSameAs(userDetails);
+        verify(tokenRevocationRegistry).isRevoked(email, new Date(issuedAtMs));
+    }
+
     /*@Mock
     private AuthenticationManager authenticationManager;
 
@@ -63,14 +300,12 @@ public class AuthenticationServiceImplUnitTest {
                 .build();
         BlogUserDetails userDetails = new BlogUserDetails(user);
         Authentication authentication = mock(Authentication.class);
-        RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setToken(testRefreshToken);
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
 
         when(jwtService.generateAccessToken(userDetails)).thenReturn(testToken);
-        when(refreshTokenService.createRefreshToken(userDetails.getId())).thenReturn(refreshToken);
+        when(refreshTokenService.createRefreshToken(userDetails.getId())).thenReturn(testRefreshToken);
         when(jwtService.getExpirationTime(testToken)).thenReturn(3600000L);
 
         AuthResponse response = authenticationService.authenticate(testEmail, testPassword);
@@ -64,15 +64,13 @@ public class CategoryServiceImplUnitTest {
     @Test
     @DisplayName("List all categories - Success")
     void listCategories_ReturnsCategoryDtoList() {
-        List<Category> categories = List.of(category);
-        when(categoryRepository.findAllWithPostCount()).thenReturn(categories);
-        when(categoryMapper.toDto(eq(category))).thenReturn(categoryDto);
+        when(categoryRepository.findAllWithPostCount()).thenReturn(List.of(categoryDto));
 
         List<CategoryDto> result = categoryService.listCategories();
 
         assertThat(result).containsExactly(categoryDto).hasSize(1);
         verify(categoryRepository).findAllWithPostCount();
-        verify(categoryMapper).toDto(eq(category));
+        verify(categoryMapper, never()).toDto(any(Category.class));
     }
 
     @Test
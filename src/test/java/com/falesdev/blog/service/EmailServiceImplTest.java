@@ -1,6 +1,10 @@
 package com.falesdev.blog.service;
 
+import com.falesdev.blog.domain.EmailStatus;
+import com.falesdev.blog.domain.EmailType;
+import com.falesdev.blog.domain.entity.EmailOutbox;
 import com.falesdev.blog.exception.EmailException;
+import com.falesdev.blog.repository.EmailOutboxRepository;
 import com.falesdev.blog.service.impl.EmailServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,15 +33,38 @@ public class EmailServiceImplTest {
     @Mock
     private SpringTemplateEngine templateEngine;
 
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
     @InjectMocks
     private EmailServiceImpl emailService;
 
     private final String testEmail = "user@example.com";
     private final String testName = "Test User";
+    private final EmailOutbox welcome = EmailOutbox.builder()
+            .type(EmailType.WELCOME)
+            .recipient(testEmail)
+            .recipientName(testName)
+            .build();
+
+    @Test
+    @DisplayName("Queue welcome email - Pending outbox row, nothing sent yet")
+    void queueWelcomeEmail_SavesPendingRow() {
+        emailService.queueWelcomeEmail(testEmail, testName);
+
+        ArgumentCaptor<EmailOutbox> saved = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(saved.capture());
+        assertEquals(EmailType.WELCOME, saved.getValue().getType());
+        assertEquals(EmailStatus.PENDING, saved.getValue().getStatus());
+        assertEquals(testEmail, saved.getValue().getRecipient());
+        assertEquals(0, saved.getValue().getAttempts());
+        assertNotNull(saved.getValue().getNextAttemptAt());
+        verifyNoInteractions(mailSender);
+    }
 
     @Test
-    @DisplayName("Successful mail sending")
-    void sendWelcomeEmail_Success() throws Exception {
+    @DisplayName("Build welcome email - Rendered from the template")
+    void buildMessage_Welcome_RendersTemplate() throws Exception {
         MimeMessage mimeMessage = mock(MimeMessage.class);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
@@ -45,9 +72,10 @@ public class EmailServiceImplTest {
         when(templateEngine.process(eq("welcome-email"), any(Context.class)))
                 .thenReturn(expectedHtml);
 
-        emailService.sendWelcomeEmail(testEmail, testName);
+        MimeMessage result = emailService.buildMessage(welcome);
 
-        verify(mailSender).send(mimeMessage);
+        assertSame(mimeMessage, result);
+        verify(mailSender, never()).send(any(MimeMessage.class));
         ArgumentCaptor<Context> contextCaptor = ArgumentCaptor.forClass(Context.class);
         verify(templateEngine).process(eq("welcome-email"), contextCaptor.capture());
 
@@ -57,15 +85,15 @@ public class EmailServiceImplTest {
     }
 
     @Test
-    @DisplayName("Error sending email throws EmailException")
-    void sendWelcomeEmail_MessagingException_ThrowsEmailException() throws Exception {
+    @DisplayName("Error building email throws EmailException")
+    void buildMessage_MessagingException_ThrowsEmailException() throws Exception {
         MimeMessage mockedMimeMessage = mock(MimeMessage.class);
         doThrow(new MessagingException("Simulated error"))
                 .when(mockedMimeMessage).setSubject(anyString(), anyString());
 
         when(mailSender.createMimeMessage()).thenReturn(mockedMimeMessage);
         assertThrows(EmailException.class, () -> {
-            emailService.sendWelcomeEmail(testEmail, testName);
+            emailService.buildMessage(welcome);
         });
         verify(mockedMimeMessage).setSubject(
                 eq("¡Bienvenido a CyberBlog!"),
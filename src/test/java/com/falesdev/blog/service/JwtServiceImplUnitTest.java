@@ -47,6 +47,8 @@ public class JwtServiceImplUnitTest {
         ReflectionTestUtils.setField(jwtService, "secretKey", Base64.getEncoder().encodeToString(secretKey.getBytes()));
         ReflectionTestUtils.setField(jwtService, "jwtExpiryMs", jwtExpiryMs);
         ReflectionTestUtils.setField(jwtService, "refreshExpiryMs", refreshExpiryMs);
+        ReflectionTestUtils.setField(jwtService, "signingKeyId", "primary");
+        jwtService.init();
 
         Role userRole = new Role();
         userRole.setName("USER");
@@ -73,12 +75,26 @@ public class JwtServiceImplUnitTest {
     @Test
     @DisplayName("Generate Refresh Token - Success")
     void generateRefreshToken_ValidUserDetails_ReturnsValidToken() {
-        String token = jwtService.generateRefreshToken(userDetails);
+        String token = jwtService.generateRefreshToken(userDetails, UUID.randomUUID());
 
         assertThat(token).isNotNull();
         assertThat(token.split("\\.")).hasSize(3);
     }
 
+    @Test
+    @DisplayName("Generate Refresh Token - Carries user, family and unique id")
+    void generateRefreshToken_ContainsFamilyAndTokenId() {
+        UUID familyId = UUID.randomUUID();
+
+        Claims first = jwtService.parseClaims(jwtService.generateRefreshToken(userDetails, familyId));
+        Claims second = jwtService.parseClaims(jwtService.generateRefreshToken(userDetails, familyId));
+
+        assertThat(first.get("userId", String.class)).isEqualTo(userDetails.getId().toString());
+        assertThat(first.get("fid", String.class)).isEqualTo(familyId.toString());
+        assertThat(first.get("typ", String.class)).isEqualTo("refresh");
+        assertThat(first.getId()).isNotBlank().isNotEqualTo(second.getId());
+    }
+
     @Test
     @DisplayName("Parse claims - Success")
     void parseClaims_ValidToken_ReturnsClaims() {
@@ -86,7 +102,21 @@ public class JwtServiceImplUnitTest {
         Claims claims = jwtService.parseClaims(token);
 
         assertThat(claims.getSubject()).isEqualTo("test@example.com");
+        assertThat(claims.get("typ", String.class)).isEqualTo("access");
         assertThat(claims.getExpiration().after(new Date())).isTrue();
+        assertThat(UUID.fromString(claims.getId())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Generate token - Issue time with millisecond precision")
+    void generateAccessToken_CarriesIssuedAtMillis() {
+        long before = System.currentTimeMillis();
+        Claims claims = jwtService.parseClaims(jwtService.generateAccessToken(userDetails));
+        long after = System.currentTimeMillis();
+
+        Long issuedAtMs = claims.get("iat_ms", Long.class);
+        assertThat(issuedAtMs).isBetween(before, after);
+        assertThat(issuedAtMs / 1000).isEqualTo(claims.getIssuedAt().getTime() / 1000);
     }
 
     @Test
@@ -132,7 +162,7 @@ public class JwtServiceImplUnitTest {
     @Test
     @DisplayName("Get Expiration Time - Refresh Token")
     void getExpirationTime_RefreshToken_ReturnsCorrectRemainingTime() {
-        String token = jwtService.generateRefreshToken(userDetails);
+        String token = jwtService.generateRefreshToken(userDetails, UUID.randomUUID());
         long expirationTime = jwtService.getExpirationTime(token);
 
         assertTrue(expirationTime > 0 && expirationTime <= refreshExpiryMs);
@@ -164,10 +194,47 @@ public class JwtServiceImplUnitTest {
         long customExpiration = 10000L;
         ReflectionTestUtils.setField(jwtService, "refreshExpiryMs", customExpiration);
 
-        String token = jwtService.generateRefreshToken(userDetails);
+        String token = jwtService.generateRefreshToken(userDetails, UUID.randomUUID());
         Claims claims = jwtService.parseClaims(token);
 
         long expectedExpiration = claims.getIssuedAt().getTime() + customExpiration;
         assertThat(claims.getExpiration().getTime()).isEqualTo(expectedExpiration);
     }
+
+    @Test
+    @DisplayName("Key rotation - Token signed with a previous key still verifies")
+    void parseClaims_TokenSignedWithPreviousKey_ReturnsClaims() {
+        String oldSecret = Base64.getEncoder().encodeToString("previousSecretKey1234567890123456789012".getBytes());
+        JwtServiceImpl previousService = newJwtService(oldSecret, "old", "");
+        String token = previousService.generateAccessToken(userDetails);
+
+        String newSecret = Base64.getEncoder().encodeToString("rotatedSecretKey12345678901234567890123".getBytes());
+        JwtServiceImpl rotatedService = newJwtService(newSecret, "new", "old:" + oldSecret);
+
+        assertThat(rotatedService.parseClaims(token).getSubject()).isEqualTo("test@example.com");
+        assertThat(rotatedService.parseClaims(rotatedService.generateAccessToken(userDetails)).getSubject())
+                .isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("Key rotation - Unknown key id is rejected")
+    void parseClaims_UnknownKeyId_ThrowsJwtException() {
+        String otherSecret = Base64.getEncoder().encodeToString("anotherSecretKey1234567890123456789012".getBytes());
+        String token = newJwtService(otherSecret, "retired", "").generateAccessToken(userDetails);
+
+        JwtException exception = assertThrows(JwtException.class, () -> jwtService.parseClaims(token));
+
+        assertThat(exception.getCause()).isInstanceOf(SignatureException.class);
+    }
+
+    private JwtServiceImpl newJwtService(String secret, String keyId, String verificationKeys) {
+        JwtServiceImpl service = new JwtServiceImpl();
+        ReflectionTestUtils.setField(service, "secretKey", secret);
+        ReflectionTestUtils.setField(service, "signingKeyId", keyId);
+        ReflectionTestUtils.setField(service, "verificationKeys", verificationKeys);
+        ReflectionTestUtils.setField(service, "jwtExpiryMs", jwtExpiryMs);
+        ReflectionTestUtils.setField(service, "refreshExpiryMs", refreshExpiryMs);
+        service.init();
+        return service;
+    }
 }
@@ -1,26 +1,45 @@
 package com.falesdev.blog.service;
 
+import com.falesdev.blog.domain.PostCursor;
 import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.dto.AuthorDto;
+import com.falesdev.blog.domain.dto.CategoryDto;
 import com.falesdev.blog.domain.dto.PostDto;
+import com.falesdev.blog.domain.dto.PostSearchResultDto;
+import com.falesdev.blog.domain.dto.PostSummaryDto;
+import com.falesdev.blog.domain.dto.PostVersionDto;
+import com.falesdev.blog.domain.dto.TagDto;
 import com.falesdev.blog.domain.dto.request.CreatePostRequestDto;
 import com.falesdev.blog.domain.dto.request.UpdatePostRequestDto;
+import com.falesdev.blog.domain.dto.response.CursorPageResponse;
 import com.falesdev.blog.domain.entity.Category;
 import com.falesdev.blog.domain.entity.Post;
 import com.falesdev.blog.domain.entity.Tag;
 import com.falesdev.blog.domain.entity.User;
+import com.falesdev.blog.domain.projection.PostSummaryRow;
+import com.falesdev.blog.domain.projection.PostTagRow;
+import com.falesdev.blog.domain.projection.PostVersionRow;
+import com.falesdev.blog.event.PostChangedEvent;
 import com.falesdev.blog.mapper.PostMapper;
 import com.falesdev.blog.repository.CategoryRepository;
 import com.falesdev.blog.repository.PostRepository;
 import com.falesdev.blog.repository.UserRepository;
+import com.falesdev.blog.search.PostSearchEngine;
+import com.falesdev.blog.search.PostSearchHit;
 import com.falesdev.blog.service.impl.PostServiceImpl;
+import com.falesdev.blog.service.impl.TextStatisticsServiceImpl;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -35,6 +54,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -57,11 +77,31 @@ public class PostServiceImplUnitTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Spy
+    private TextStatisticsServiceImpl textStatisticsService;
+
+    @Mock
+    private PostSearchEngine postSearchEngine;
+
+    @Mock
+    private PostViewService postViewService;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private PostServiceImpl postService;
 
     private Post post;
     private PostDto postDto;
+    private PostSummaryRow summaryRow;
+    private PostSummaryDto summaryDto;
     private User author;
     private Category category;
     private Tag tag;
@@ -98,6 +138,20 @@ public class PostServiceImplUnitTest {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
+
+        summaryRow = summaryRow(postId, "Test Post");
+        summaryDto = PostSummaryDto.builder()
+                .id(postId)
+                .title("Test Post")
+                .excerpt("Test content")
+                .readingTime(5)
+                .createdAt(summaryRow.createdAt())
+                .build();
+    }
+
+    private PostSummaryRow summaryRow(UUID id, String title) {
+        return new PostSummaryRow(id, title, "excerpt", userId, "Jane", "Doe",
+                categoryId, "Category", 1, LocalDateTime.now());
     }
 
     @Test
@@ -112,6 +166,19 @@ public class PostServiceImplUnitTest {
         verify(postRepository).findById(eq(postId));
     }
 
+    @Test
+    @DisplayName("Get post - View count includes views not flushed yet")
+    void getPost_AddsPendingViewsToPersistedCount() {
+        post.setViewCount(40);
+        when(postRepository.findById(eq(postId))).thenReturn(Optional.of(post));
+        when(postMapper.toDto(post)).thenReturn(postDto);
+        when(postViewService.getPendingViews(eq(postId))).thenReturn(2L);
+
+        PostDto result = postService.getPost(postId);
+
+        assertThat(result.getViewCount()).isEqualTo(42L);
+    }
+
     @Test
     @DisplayName("Get post by invalid ID - Throws Exception")
     void getPost_InvalidId_ThrowsException() {
@@ -124,62 +191,203 @@ public class PostServiceImplUnitTest {
         verify(postRepository).findById(eq(invalidId));
     }
 
+    @Test
+    @DisplayName("Get post version - Uses the projection queries, never loads the post")
+    void getPostVersion_ExistingId_ReturnsVersion() {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        UUID authorId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        UUID tagId = UUID.randomUUID();
+        when(postRepository.findVersionById(eq(postId))).thenReturn(Optional.of(
+                new PostVersionRow(updatedAt, authorId, "Fabricio", "Rodriguez", categoryId, "Backend", 4)));
+        when(postRepository.findTagsByPostId(eq(postId)))
+                .thenReturn(List.of(new PostTagRow(postId, tagId, "Java")));
+
+        PostVersionDto version = postService.getPostVersion(postId);
+
+        assertThat(version.updatedAt()).isEqualTo(updatedAt);
+        assertThat(version.author()).isEqualTo(new AuthorDto(authorId, "Fabricio", "Rodriguez"));
+        assertThat(version.category()).isEqualTo(new CategoryDto(categoryId, "Backend", 4));
+        assertThat(version.tags()).containsExactly(TagDto.builder().id(tagId).name("Java").build());
+        verify(postRepository, never()).findById(any());
+        verifyNoInteractions(postMapper);
+    }
+
+    @Test
+    @DisplayName("Get post version - Invalid ID throws Exception")
+    void getPostVersion_InvalidId_ThrowsException() {
+        when(postRepository.findVersionById(eq(postId))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> postService.getPostVersion(postId))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Post does not exist");
+    }
+
     @Test
     @DisplayName("Get all posts by category - Success")
     void getAllPosts_WithCategory_ReturnsPage() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(List.of(post));
+        Page<UUID> idPage = new PageImpl<>(List.of(postId), pageable, 1);
 
         when(categoryRepository.findById(eq(categoryId))).thenReturn(Optional.of(category));
-        when(postRepository.findAllByStatusAndCategory(eq(PostStatus.PUBLISHED), eq(category), eq(pageable)))
-                .thenReturn(postPage);
-        when(postMapper.toDto(eq(post))).thenReturn(postDto);
-
-        Page<PostDto> result = postService.getAllPosts(categoryId, null, pageable);
-
-        assertThat(result.getContent()).containsExactlyInAnyOrder(postDto);
+        when(postRepository.findIdsByStatusAndCategory(eq(PostStatus.PUBLISHED), eq(category), eq(pageable)))
+                .thenReturn(idPage);
+        when(postRepository.findSummariesByIdIn(eq(List.of(postId)))).thenReturn(List.of(summaryRow));
+        when(postRepository.findTagsByPostIdIn(eq(List.of(postId))))
+                .thenReturn(List.of(new PostTagRow(postId, tagId, "java")));
+        when(postMapper.toSummaryDto(eq(summaryRow), eq(Set.of(TagDto.builder().id(tagId).name("java").build()))))
+                .thenReturn(summaryDto);
+
+        Page<PostSummaryDto> result = postService.getAllPosts(categoryId, null, pageable);
+
+        assertThat(result.getContent()).containsExactlyInAnyOrder(summaryDto);
+        assertThat(result.getTotalElements()).isEqualTo(1);
         verify(categoryRepository).findById(eq(categoryId));
-        verify(postRepository).findAllByStatusAndCategory(eq(PostStatus.PUBLISHED), eq(category), eq(pageable));
-        verify(postMapper).toDto(eq(post));
+        verify(postRepository).findIdsByStatusAndCategory(eq(PostStatus.PUBLISHED), eq(category), eq(pageable));
+        verify(postRepository).findSummariesByIdIn(eq(List.of(postId)));
     }
 
     @Test
     @DisplayName("Get draft posts for user - Success")
     void getDraftPosts_ValidUser_ReturnsPage() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(List.of(post));
+        Page<UUID> idPage = new PageImpl<>(List.of(postId), pageable, 1);
 
         when(userRepository.findById(eq(userId))).thenReturn(Optional.of(author));
-        when(postRepository.findAllByAuthorAndStatus(eq(author), eq(PostStatus.DRAFT), eq(pageable)))
-                .thenReturn(postPage);
-        when(postMapper.toDto(eq(post))).thenReturn(postDto);
+        when(postRepository.findIdsByAuthorAndStatus(eq(author), eq(PostStatus.DRAFT), eq(pageable)))
+                .thenReturn(idPage);
+        when(postRepository.findSummariesByIdIn(eq(List.of(postId)))).thenReturn(List.of(summaryRow));
+        when(postMapper.toSummaryDto(eq(summaryRow), eq(Set.of()))).thenReturn(summaryDto);
 
-        Page<PostDto> result = postService.getDraftPosts(userId, pageable);
+        Page<PostSummaryDto> result = postService.getDraftPosts(userId, pageable);
 
-        assertThat(result.getContent()).containsExactly(postDto);
+        assertThat(result.getContent()).containsExactly(summaryDto);
         verify(userRepository).findById(eq(userId));
-        verify(postRepository).findAllByAuthorAndStatus(eq(author), eq(PostStatus.DRAFT), eq(pageable));
-        verify(postMapper).toDto(eq(post));
+        verify(postRepository).findIdsByAuthorAndStatus(eq(author), eq(PostStatus.DRAFT), eq(pageable));
+        verify(postMapper).toSummaryDto(eq(summaryRow), eq(Set.of()));
+    }
+
+    @Test
+    @DisplayName("Get all posts - Keeps id page order after hydration")
+    void getAllPosts_HydratedOutOfOrder_KeepsPageOrder() {
+        Pageable pageable = PageRequest.of(0, 10);
+        UUID otherPostId = UUID.randomUUID();
+        PostSummaryRow otherRow = summaryRow(otherPostId, "Other Post");
+        PostSummaryDto otherSummaryDto = PostSummaryDto.builder().id(otherPostId).title("Other Post").build();
+        Page<UUID> idPage = new PageImpl<>(List.of(otherPostId, postId), pageable, 2);
+
+        when(postRepository.findIdsByStatus(eq(PostStatus.PUBLISHED), eq(pageable))).thenReturn(idPage);
+        when(postRepository.findSummariesByIdIn(eq(List.of(otherPostId, postId))))
+                .thenReturn(List.of(summaryRow, otherRow));
+        when(postMapper.toSummaryDto(eq(summaryRow), any())).thenReturn(summaryDto);
+        when(postMapper.toSummaryDto(eq(otherRow), any())).thenReturn(otherSummaryDto);
+
+        Page<PostSummaryDto> result = postService.getAllPosts(null, null, pageable);
+
+        assertThat(result.getContent()).containsExactly(otherSummaryDto, summaryDto);
+        verify(postRepository, times(1)).findSummariesByIdIn(any());
+        verify(postRepository, times(1)).findTagsByPostIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Get post feed - First page returns cursor when more rows exist")
+    void getPostFeed_FirstPage_ReturnsNextCursor() {
+        UUID otherPostId = UUID.randomUUID();
+
+        when(postRepository.findFeedIdsByStatus(eq(PostStatus.PUBLISHED), argThat(limit -> limit.max() == 2)))
+                .thenReturn(List.of(postId, otherPostId));
+        when(postRepository.findSummariesByIdIn(eq(List.of(postId)))).thenReturn(List.of(summaryRow));
+        when(postMapper.toSummaryDto(eq(summaryRow), any())).thenReturn(summaryDto);
+
+        CursorPageResponse<PostSummaryDto> result = postService.getPostFeed(null, null, null, 1);
+
+        assertThat(result.getContent()).containsExactly(summaryDto);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(PostCursor.decode(result.getNextCursor()))
+                .isEqualTo(new PostCursor(summaryDto.getCreatedAt(), postId));
+        verify(postRepository, never()).count();
     }
 
     @Test
-    @DisplayName("Search posts by title - Success")
-    void getAllPostsByTitle_ValidTitle_ReturnsPage() {
+    @DisplayName("Get post feed - Cursor seeks after the previous page")
+    void getPostFeed_WithCursor_UsesSeekQuery() {
+        PostCursor cursor = new PostCursor(LocalDateTime.now().minusDays(1), UUID.randomUUID());
+
+        when(categoryRepository.findById(eq(categoryId))).thenReturn(Optional.of(category));
+        when(postRepository.findFeedIdsByStatusAndCategoryAfter(eq(PostStatus.PUBLISHED), eq(category),
+                eq(cursor.createdAt()), eq(cursor.id()), argThat(limit -> limit.max() == 11)))
+                .thenReturn(List.of(postId));
+        when(postRepository.findSummariesByIdIn(eq(List.of(postId)))).thenReturn(List.of(summaryRow));
+        when(postMapper.toSummaryDto(eq(summaryRow), any())).thenReturn(summaryDto);
+
+        CursorPageResponse<PostSummaryDto> result = postService.getPostFeed(categoryId, null, cursor.encode(), 10);
+
+        assertThat(result.getContent()).containsExactly(summaryDto);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Get post feed - Malformed cursor is rejected")
+    void getPostFeed_MalformedCursor_ThrowsIllegalArgument() {
+        assertThatThrownBy(() -> postService.getPostFeed(null, null, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("Search posts - Hydrates hits in relevance order")
+    void searchPosts_ValidQuery_ReturnsRankedResults() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Post> postPage = new PageImpl<>(List.of(post));
-        String title = "Test";
+        UUID otherPostId = UUID.randomUUID();
+        PostSummaryRow otherRow = summaryRow(otherPostId, "Other Post");
+        PostSummaryDto otherSummaryDto = PostSummaryDto.builder().id(otherPostId).title("Other Post").build();
+        Page<PostSearchHit> hits = new PageImpl<>(List.of(
+                new PostSearchHit(otherPostId, 0.9, "<mark>Test</mark> other"),
+                new PostSearchHit(postId, 0.4, "<mark>Test</mark> content")
+        ), pageable, 2);
+
+        when(postSearchEngine.search(eq("Test"), eq(pageable))).thenReturn(hits);
+        when(postRepository.findSummariesByIdIn(eq(List.of(otherPostId, postId))))
+                .thenReturn(List.of(summaryRow, otherRow));
+        when(postMapper.toSummaryDto(eq(summaryRow), any())).thenReturn(summaryDto);
+        when(postMapper.toSummaryDto(eq(otherRow), any())).thenReturn(otherSummaryDto);
+
+        Page<PostSearchResultDto> result = postService.searchPosts("Test", pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent())
+                .extracting(PostSearchResultDto::getPost, PostSearchResultDto::getSnippet)
+                .containsExactly(
+                        tuple(otherSummaryDto, "<mark>Test</mark> other"),
+                        tuple(summaryDto, "<mark>Test</mark> content")
+                );
+    }
 
-        when(postRepository
-                .findAllByTitleContainingIgnoreCaseAndStatus(eq(title), eq(PostStatus.PUBLISHED), eq(pageable)))
-                .thenReturn(postPage);
-        when(postMapper.toDto(eq(post))).thenReturn(postDto);
+    @Test
+    @DisplayName("Trending posts - Hydrates summaries in ranking order")
+    void getTrendingPosts_ReturnsSummariesInRankingOrder() {
+        UUID otherPostId = UUID.randomUUID();
+        PostSummaryRow otherRow = summaryRow(otherPostId, "Other Post");
+        PostSummaryDto otherSummaryDto = PostSummaryDto.builder().id(otherPostId).title("Other Post").build();
+        when(trendingService.getTrendingPostIds(eq(5))).thenReturn(List.of(otherPostId, postId));
+        when(postRepository.findSummariesByIdIn(eq(List.of(otherPostId, postId))))
+                .thenReturn(List.of(summaryRow, otherRow));
+        when(postMapper.toSummaryDto(eq(summaryRow), any())).thenReturn(summaryDto);
+        when(postMapper.toSummaryDto(eq(otherRow), any())).thenReturn(otherSummaryDto);
+
+        List<PostSummaryDto> result = postService.getTrendingPosts(5);
+
+        assertThat(result).containsExactly(otherSummaryDto, summaryDto);
+    }
 
-        Page<PostDto> result = postService.getAllPostsbyTitle(title, pageable);
+    @Test
+    @DisplayName("Search posts - Blank query returns empty page")
+    void searchPosts_BlankQuery_ReturnsEmptyPage() {
+        Page<PostSearchResultDto> result = postService.searchPosts("  ", PageRequest.of(0, 10));
 
-        assertThat(result.getContent()).containsExactly(postDto);
-        verify(postRepository)
-                .findAllByTitleContainingIgnoreCaseAndStatus(eq(title), eq(PostStatus.PUBLISHED), eq(pageable));
-        verify(postMapper).toDto(eq(post));
+        assertThat(result).isEmpty();
+        verifyNoInteractions(postSearchEngine);
     }
 
     @Test
@@ -209,12 +417,49 @@ public class PostServiceImplUnitTest {
         assertThat(newPost.getAuthor()).isEqualTo(author);
         assertThat(newPost.getCategory()).isEqualTo(category);
         assertThat(newPost.getTags()).containsExactly(tag);
+        assertThat(newPost.getReadingTime()).isEqualTo(1);
+        assertThat(newPost.getExcerpt()).isEqualTo("Content");
+        verify(textStatisticsService).analyze(eq("Content"));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof PostChangedEvent changed
+                && changed.postId().equals(postId)
+                && changed.changeType() == PostChangedEvent.ChangeType.CREATED));
         verify(userRepository).findById(eq(userId));
         verify(categoryRepository).findById(eq(categoryId));
         verify(tagService).getTagByIds(eq(Set.of(tagId)));
         verify(postMapper).toCreatePost(eq(request));
         verify(postRepository).save(eq(newPost));
         verify(postMapper).toDto(eq(savedPost));
+        verify(categoryRepository, never()).adjustPostCount(any(), anyInt());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("Create published post - Increments category post count")
+    void createPost_Published_IncrementsCategoryPostCount() {
+        CreatePostRequestDto request = new CreatePostRequestDto(
+                "New Post",
+                "Content",
+                categoryId,
+                Set.of(tagId),
+                PostStatus.PUBLISHED
+        );
+
+        Post newPost = Post.builder().status(PostStatus.PUBLISHED).build();
+
+        when(userRepository.findById(eq(userId))).thenReturn(Optional.of(author));
+        when(categoryRepository.findById(eq(categoryId))).thenReturn(Optional.of(category));
+        when(tagService.getTagByIds(eq(Set.of(tagId)))).thenReturn(List.of(tag));
+        when(postMapper.toCreatePost(request)).thenReturn(newPost);
+        when(postRepository.save(eq(newPost))).thenReturn(newPost);
+        when(postMapper.toDto(newPost)).thenReturn(postDto);
+
+        postService.createPost(userId, request);
+
+        // Recargada después del UPDATE masivo, antes de mapear el PostDto
+        InOrder inOrder = inOrder(categoryRepository, entityManager, postMapper);
+        inOrder.verify(categoryRepository).adjustPostCount(eq(categoryId), eq(1));
+        inOrder.verify(entityManager).refresh(category);
+        inOrder.verify(postMapper).toDto(newPost);
     }
 
     @Test
@@ -237,18 +482,26 @@ public class PostServiceImplUnitTest {
         when(tagService.getTagByIds(request.getTagIds())).thenReturn(List.of(newTag));
         when(postRepository.save(eq(post))).thenReturn(post);
         when(postMapper.toDto(post)).thenReturn(postDto);
+        LocalDateTime before = LocalDateTime.now();
 
         PostDto result = postService.updatePost(postId, request);
 
         assertThat(result).isEqualTo(postDto);
         assertThat(post.getCategory()).isEqualTo(newCategory);
         assertThat(post.getTags()).containsExactly(newTag);
+        // Solo cambian los tags en la colección: updateAt se adelanta a mano para que cambie el ETag
+        assertThat(post.getUpdateAt()).isAfterOrEqualTo(before);
+        assertThat(post.getExcerpt()).isEqualTo("Updated content");
         verify(postMapper).updateFromDto(eq(request), eq(post));
         verify(postMapper).updateFromDto(
                 argThat(dto -> dto.getTitle().equals("Updated Title")),
                 eq(post)
         );
         verify(postRepository).save(eq(post));
+        verify(categoryRepository).adjustPostCount(eq(categoryId), eq(-1));
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
+        verify(categoryRepository).adjustPostCount(eq(request.getCategoryId()), eq(1));
+        verify(entityManager).refresh(newCategory);
     }
 
     @Test
@@ -272,6 +525,8 @@ public class PostServiceImplUnitTest {
         postService.deletePost(postId);
 
         verify(postRepository, times(1)).delete(post);
+        verify(categoryRepository).adjustPostCount(eq(categoryId), eq(-1));
+        verify(eventPublisher).publishEvent(eq(PostChangedEvent.deleted(post)));
     }
 
     @Test
@@ -0,0 +1,138 @@
+package com.falesdev.blog.service;
+
+import com.falesdev.blog.event.PostViewsFlushedEvent;
+import com.falesdev.blog.service.impl.PostViewServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class PostViewServiceImplUnitTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PostViewServiceImpl postViewService;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> batchCaptor;
+
+    private final UUID hotPostId = UUID.randomUUID();
+    private final UUID otherPostId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Concurrent views on a hot post are flushed as a single summed update")
+    void flush_ConcurrentViews_WritesOneRowPerPost() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 8).forEach(thread -> executor.submit(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                postViewService.recordView(hotPostId);
+            }
+        }));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        postViewService.recordView(otherPostId);
+
+        assertThat(postViewService.getPendingViews(hotPostId)).isEqualTo(80_000);
+        assertThat(postViewService.flush()).isEqualTo(2);
+
+        verify(jdbcTemplate).batchUpdate(anyString(), batchCaptor.capture());
+        assertThat(batchCaptor.getValue())
+                .extracting(row -> row[1], row -> row[0])
+                .containsExactlyInAnyOrder(
+                        tuple(hotPostId, 80_000L),
+                        tuple(otherPostId, 1L));
+        assertThat(postViewService.getPendingViews(hotPostId)).isZero();
+        verify(eventPublisher).publishEvent(new PostViewsFlushedEvent(Map.of(hotPostId, 80_000L, otherPostId, 1L)));
+    }
+
+    @Test
+    @DisplayName("Views recorded while flushes retire idle entries are never lost")
+    void flush_InterleavedWithRecordView_LosesNothing() throws Exception {
+        List<UUID> postIds = IntStream.range(0, 20).mapToObj(i -> UUID.randomUUID()).toList();
+        AtomicLong flushedViews = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            invocation.<List<Object[]>>getArgument(1).forEach(row -> flushedViews.addAndGet((long) row[0]));
+            return new int[0];
+        });
+
+        AtomicBoolean recording = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        Future<?> flusher = executor.submit(() -> {
+            while (recording.get()) {
+                postViewService.flush();
+            }
+        });
+        List<Future<?>> recorders = IntStream.range(0, 4).<Future<?>>mapToObj(thread -> executor.submit(() -> {
+            for (int i = 0; i < 50_000; i++) {
+                // Ráfagas cortas por post: las entradas quedan inactivas y se retiran entre volcados
+                postViewService.recordView(postIds.get((i / 50 + thread * 5) % postIds.size()));
+            }
+        })).toList();
+        for (Future<?> recorder : recorders) {
+            recorder.get(30, TimeUnit.SECONDS);
+        }
+        recording.set(false);
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        postViewService.flush();
+        assertThat(flushedViews).hasValue(200_000);
+    }
+
+    @Test
+    @DisplayName("Flush without new views issues no update")
+    void flush_NoViews_SkipsDatabase() {
+        postViewService.recordView(hotPostId);
+        postViewService.flush();
+        clearInvocations(jdbcTemplate, eventPublisher);
+
+        assertThat(postViewService.flush()).isZero();
+        verifyNoInteractions(jdbcTemplate, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Failed flush keeps the views for the next attempt")
+    void flush_DatabaseError_RestoresPendingViews() {
+        postViewService.recordView(hotPostId);
+        postViewService.recordView(hotPostId);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThat(postViewService.flush()).isZero();
+
+        assertThat(postViewService.getPendingViews(hotPostId)).isEqualTo(2);
+        verifyNoInteractions(eventPublisher);
+    }
+}
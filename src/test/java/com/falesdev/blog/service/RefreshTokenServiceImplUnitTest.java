@@ -8,20 +8,29 @@ import com.falesdev.blog.exception.InvalidRefreshTokenException;
 import com.falesdev.blog.repository.RefreshTokenRepository;
 import com.falesdev.blog.repository.UserRepository;
 import com.falesdev.blog.service.impl.RefreshTokenServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ActiveProfiles("test")
@@ -41,116 +50,158 @@ public class RefreshTokenServiceImplUnitTest {
     private RefreshTokenServiceImpl refreshTokenService;
 
     private final UUID userId = UUID.randomUUID();
+    private final UUID familyId = UUID.randomUUID();
     private final String refreshToken = "refresh.token";
+    private final String rotatedToken = "rotated.refresh.token";
     private final User user = User.builder().id(userId).email("test@example.com").build();
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        claims = Jwts.claims();
+        claims.put("typ", "refresh");
+        claims.put("userId", userId.toString());
+        claims.put("fid", familyId.toString());
+    }
 
     @Test
-    @DisplayName("Create refresh token - Delete existing tokens and create new ones")
-    void createRefreshToken_DeletesExistingAndCreatesNew() {
+    @DisplayName("Create refresh token - Stores only the hash under a new family")
+    void createRefreshToken_StoresHashAndReturnsToken() throws NoSuchAlgorithmException {
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(jwtService.generateRefreshToken(any())).thenReturn(refreshToken);
+        when(jwtService.generateRefreshToken(any(), any(UUID.class))).thenReturn(refreshToken);
         when(jwtService.getRefreshExpirationMs()).thenReturn(86400000L);
 
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
-            RefreshToken token = invocation.getArgument(0);
-            return RefreshToken.builder()
-                    .userId(token.getUserId())
-                    .token(token.getToken())
-                    .expiryDate(token.getExpiryDate())
-                    .revoked(token.isRevoked())
-                    .build();
-        });
-
-        RefreshToken result = refreshTokenService.createRefreshToken(userId);
-
-        verify(refreshTokenRepository).deleteByUserId(userId);
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
-
-        assertThat(result).isNotNull();
-        assertThat(result.getToken()).isEqualTo(refreshToken);
-        assertThat(result.getUserId()).isEqualTo(userId);
-        assertThat(result.getExpiryDate()).isAfter(Instant.now());
+        String result = refreshTokenService.createRefreshToken(userId);
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(result).isEqualTo(refreshToken);
+        assertThat(saved.getValue().getTokenHash()).isEqualTo(sha256(refreshToken));
+        assertThat(saved.getValue().getFamilyId()).isNotNull();
+        assertThat(saved.getValue().getUserId()).isEqualTo(userId);
+        assertThat(saved.getValue().getExpiryDate()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("RefreshAccessToken - Consumes the token and rotates within the same family")
+    void refreshAccessToken_ValidToken_RotatesInFamily() throws NoSuchAlgorithmException {
+        when(jwtService.parseClaims(refreshToken)).thenReturn(claims);
+        when(refreshTokenRepository.consume(eq(sha256(refreshToken)), any(Instant.class))).thenReturn(1);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(jwtService.generateAccessToken(any())).thenReturn("new.access.token");
+        when(jwtService.generateRefreshToken(any(), eq(familyId))).thenReturn(rotatedToken);
+        when(jwtService.getJwtExpirationMs()).thenReturn(3600000L);
+
+        AuthResponse response = refreshTokenService.refreshAccessToken(refreshToken);
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getTokenHash()).isEqualTo(sha256(rotatedToken));
+        assertThat(saved.getValue().getFamilyId()).isEqualTo(familyId);
+        assertThat(response.getAccessToken()).isEqualTo("new.access.token");
+        assertThat(response.getRefreshToken()).isEqualTo(rotatedToken);
+        assertThat(response.getExpiresIn()).isEqualTo(3600L);
+        verify(refreshTokenRepository, never()).revokeFamily(any());
     }
 
     @Test
-    @DisplayName("RefreshAccessToken - Invalid token throws exception")
-    void refreshAccessToken_InvalidToken_ThrowsException() {
-        when(refreshTokenRepository.findByToken(refreshToken)).thenReturn(Optional.empty());
+    @DisplayName("RefreshAccessToken - Reused token revokes the whole family")
+    void refreshAccessToken_ReusedToken_RevokesFamily() throws NoSuchAlgorithmException {
+        when(jwtService.parseClaims(refreshToken)).thenReturn(claims);
+        when(refreshTokenRepository.consume(eq(sha256(refreshToken)), any(Instant.class))).thenReturn(0);
+        when(refreshTokenRepository.existsByTokenHash(sha256(refreshToken))).thenReturn(true);
 
         assertThatThrownBy(() -> refreshTokenService.refreshAccessToken(refreshToken))
                 .isInstanceOf(InvalidRefreshTokenException.class)
-                .hasMessage("Refresh token not found");
+                .hasMessage("Invalid refresh token");
+
+        verify(refreshTokenRepository).revokeFamily(familyId);
+        verify(refreshTokenRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("RefreshAccessToken - Valid token generates new tokens")
-    void refreshAccessToken_ValidToken_GeneratesNewTokens() {
-        RefreshToken oldToken = RefreshToken.builder()
-                .userId(userId)
-                .token(refreshToken)
-                .expiryDate(Instant.now().plusSeconds(3600))
-                .build();
-        String accessToken = "new.access.token";
-
-        when(refreshTokenRepository.findByToken(refreshToken)).thenReturn(Optional.of(oldToken));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(jwtService.generateAccessToken(any())).thenReturn(accessToken);
-        when(jwtService.generateRefreshToken(any())).thenReturn(refreshToken);
-        when(jwtService.getJwtExpirationMs()).thenReturn(3600000L);
+    @DisplayName("RefreshAccessToken - Unknown token is rejected without revoking")
+    void refreshAccessToken_UnknownToken_ThrowsException() throws NoSuchAlgorithmException {
+        when(jwtService.parseClaims(refreshToken)).thenReturn(claims);
+        when(refreshTokenRepository.consume(eq(sha256(refreshToken)), any(Instant.class))).thenReturn(0);
+        when(refreshTokenRepository.existsByTokenHash(sha256(refreshToken))).thenReturn(false);
 
-        AuthResponse response = refreshTokenService.refreshAccessToken(refreshToken);
+        assertThatThrownBy(() -> refreshTokenService.refreshAccessToken(refreshToken))
+                .isInstanceOf(InvalidRefreshTokenException.class);
 
-        verify(refreshTokenRepository, times(1)).delete(oldToken);
-        verify(refreshTokenRepository, times(1)).deleteByUserId(userId);
-        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
 
-        assertThat(response.getAccessToken()).isEqualTo(accessToken);
-        assertThat(response.getRefreshToken()).isEqualTo(refreshToken);
-        assertThat(response.getExpiresIn()).isEqualTo(3600L);
+    @Test
+    @DisplayName("RefreshAccessToken - Invalid signature never reaches the database")
+    void refreshAccessToken_InvalidJwt_ThrowsException() {
+        when(jwtService.parseClaims(refreshToken)).thenThrow(new JwtException("bad signature"));
+
+        assertThatThrownBy(() -> refreshTokenService.refreshAccessToken(refreshToken))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessage("Invalid refresh token");
+
+        verifyNoInteractions(refreshTokenRepository);
     }
 
     @Test
-    @DisplayName("Validate refresh token - Expired token throws exception")
-    void validateRefreshToken_ExpiredToken_ThrowsException() {
-        RefreshToken expiredToken = RefreshToken.builder()
-                .expiryDate(Instant.now().minusSeconds(3600))
-                .revoked(false)
-                .build();
+    @DisplayName("RefreshAccessToken - Token without family is rejected")
+    void refreshAccessToken_MissingFamily_ThrowsException() {
+        claims.remove("fid");
+        when(jwtService.parseClaims(refreshToken)).thenReturn(claims);
 
-        when(refreshTokenRepository.findByToken(refreshToken)).thenReturn(Optional.of(expiredToken));
+        assertThatThrownBy(() -> refreshTokenService.refreshAccessToken(refreshToken))
+                .isInstanceOf(InvalidRefreshTokenException.class);
 
-        assertThatThrownBy(() -> refreshTokenService.validateRefreshToken(refreshToken))
-                .isInstanceOf(InvalidRefreshTokenException.class)
-                .hasMessage("Refresh token expired");
+        verifyNoInteractions(refreshTokenRepository);
     }
 
     @Test
-    @DisplayName("Validate refresh token - Revoked token throws exception")
-    void validateRefreshToken_RevokedToken_ThrowsException() {
-        RefreshToken revokedToken = RefreshToken.builder()
-                .expiryDate(Instant.now().plusSeconds(3600))
-                .revoked(true)
-                .build();
+    @DisplayName("Revoke refresh token - Whole family revoked")
+    void revoke_ValidToken_RevokesFamily() {
+        when(jwtService.parseClaims(refreshToken)).thenReturn(claims);
 
-        when(refreshTokenRepository.findByToken(refreshToken)).thenReturn(Optional.of(revokedToken));
+        refreshTokenService.revoke(refreshToken, userId);
 
-        assertThatThrownBy(() -> refreshTokenService.validateRefreshToken(refreshToken))
-                .isInstanceOf(InvalidRefreshTokenException.class)
-                .hasMessage("Refresh token revoked");
+        verify(refreshTokenRepository).revokeFamily(familyId);
+    }
+
+    @Test
+    @DisplayName("Revoke another user's refresh token - Rejected, nothing revoked")
+    void revoke_ForeignToken_ThrowsException() {
+        when(jwtService.parseClaims(refreshToken)).thenReturn(claims);
+
+        assertThatThrownBy(() -> refreshTokenService.revoke(refreshToken, UUID.randomUUID()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verifyNoInteractions(refreshTokenRepository);
     }
 
     @Test
-    @DisplayName("Validate refresh token - Valid token passes validation")
-    void validateRefreshToken_ValidToken_NoExceptions() {
-        RefreshToken validToken = RefreshToken.builder()
-                .userId(userId)
-                .expiryDate(Instant.now().plusSeconds(3600))
-                .revoked(false)
-                .build();
-
-        when(refreshTokenRepository.findByToken(refreshToken)).thenReturn(Optional.of(validToken));
-
-        assertThatCode(() -> refreshTokenService.validateRefreshToken(refreshToken))
-                .doesNotThrowAnyException();
+    @DisplayName("Revoke with an access token - Rejected, nothing revoked")
+    void revoke_TokenWithoutFamily_ThrowsException() {
+        claims.remove("fid");
+        when(jwtService.parseClaims(refreshToken)).thenReturn(claims);
+
+        assertThatThrownBy(() -> refreshTokenService.revoke(refreshToken, userId))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    @DisplayName("RefreshAccessToken - Token of another type is rejected")
+    void refreshAccessToken_AccessTokenType_ThrowsException() {
+        claims.put("typ", "access");
+        when(jwtService.parseClaims(refreshToken)).thenReturn(claims);
+
+        assertThatThrownBy(() -> refreshTokenService.refreshAccessToken(refreshToken))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    private static byte[] sha256(String value) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
     }
 }
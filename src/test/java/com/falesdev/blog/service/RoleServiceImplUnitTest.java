@@ -77,9 +77,9 @@ public class RoleServiceImplUnitTest {
     @DisplayName("Get roles by existing ID - Success")
     void getRolesById_ValidId_ReturnsRolesDto() {
         Set<UUID> ids = Set.of(roleUser.getId(), roleAdmin.getId());
-        List<Role> foundRoles = List.of(roleUser, roleAdmin);
 
-        when(roleRepository.findAllById(eq(ids))).thenReturn(foundRoles);
+        when(roleRepository.findById(eq(roleUser.getId()))).thenReturn(Optional.of(roleUser));
+        when(roleRepository.findById(eq(roleAdmin.getId()))).thenReturn(Optional.of(roleAdmin));
 
         Set<Role> result = roleService.getRolesByIds(ids);
 
@@ -87,27 +87,28 @@ public class RoleServiceImplUnitTest {
                 .hasSize(2)
                 .containsExactlyInAnyOrder(roleUser, roleAdmin);
 
-        verify(roleRepository).findAllById(eq(ids));
+        verify(roleRepository, never()).findAllById(any());
     }
 
     @Test
     @DisplayName("Getting roles with missing IDs - Throws exception")
     void getRolesByIds_MissingIds_ThrowsException() {
         Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
-        when(roleRepository.findAllById(eq(ids))).thenReturn(Collections.emptyList());
+        when(roleRepository.findById(any())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> roleService.getRolesByIds(ids))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("Not all specified Role IDs exist");
 
-        verify(roleRepository).findAllById(eq(ids));
+        verify(roleRepository, atLeastOnce()).findById(any());
     }
 
     @Test
     @DisplayName("Get roles with partial missing IDs - Throws exception")
     void getRolesByIds_PartialMissingIds_ThrowsException() {
         Set<UUID> ids = Set.of(roleUser.getId(), UUID.randomUUID());
-        when(roleRepository.findAllById(eq(ids))).thenReturn(List.of(roleUser));
+        when(roleRepository.findById(any())).thenAnswer(invocation ->
+                roleUser.getId().equals(invocation.getArgument(0)) ? Optional.of(roleUser) : Optional.empty());
 
         assertThatThrownBy(() -> roleService.getRolesByIds(ids))
                 .isInstanceOf(EntityNotFoundException.class)
@@ -0,0 +1,100 @@
+package com.falesdev.blog.service;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.dto.CategoryDto;
+import com.falesdev.blog.domain.dto.PostTitleDto;
+import com.falesdev.blog.domain.dto.SuggestionDto;
+import com.falesdev.blog.domain.dto.TagDto;
+import com.falesdev.blog.domain.dto.response.SuggestionsResponse;
+import com.falesdev.blog.event.PostChangedEvent;
+import com.falesdev.blog.repository.CategoryRepository;
+import com.falesdev.blog.repository.PostRepository;
+import com.falesdev.blog.repository.TagRepository;
+import com.falesdev.blog.service.impl.SuggestionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class SuggestionServiceImplUnitTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private SuggestionServiceImpl suggestionService;
+
+    private final UUID olderPostId = UUID.randomUUID();
+    private final UUID newerPostId = UUID.randomUUID();
+    private final UUID tagId = UUID.randomUUID();
+    private final UUID categoryId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(postRepository.findAllTitlesByStatus(eq(PostStatus.PUBLISHED))).thenReturn(List.of(
+                new PostTitleDto(olderPostId, "Spring Data JPA", LocalDateTime.now().minusDays(2)),
+                new PostTitleDto(newerPostId, "Spring Security", LocalDateTime.now().minusDays(1))
+        ));
+        when(tagRepository.findAllWithPostCount(eq(PostStatus.PUBLISHED)))
+                .thenReturn(List.of(new TagDto(tagId, "Spring Boot", 4)));
+        when(categoryRepository.findAllWithPostCount())
+                .thenReturn(List.of(new CategoryDto(categoryId, "Backend", 2)));
+        suggestionService.initialize();
+    }
+
+    @Test
+    @DisplayName("Suggest - Newest posts first, with matching tags and categories")
+    void suggest_Prefix_ReturnsAllTypes() {
+        SuggestionsResponse result = suggestionService.suggest("spr", 5);
+
+        assertThat(result.getPosts()).extracting(SuggestionDto::getId).containsExactly(newerPostId, olderPostId);
+        assertThat(result.getTags()).extracting(SuggestionDto::getText).containsExactly("Spring Boot");
+        assertThat(result.getCategories()).isEmpty();
+        assertThat(suggestionService.suggest("back", 5).getCategories())
+                .extracting(SuggestionDto::getId).containsExactly(categoryId);
+    }
+
+    @Test
+    @DisplayName("Suggest - Post changes are applied incrementally")
+    void onPostChanged_UpdatesTitles() {
+        suggestionService.onPostChanged(new PostChangedEvent(olderPostId, PostChangedEvent.ChangeType.UPDATED,
+                PostStatus.PUBLISHED, PostStatus.PUBLISHED, "Hibernate Tips", "content", Set.of(), Set.of()));
+        suggestionService.onPostChanged(new PostChangedEvent(newerPostId, PostChangedEvent.ChangeType.DELETED,
+                PostStatus.PUBLISHED, null, null, null, Set.of(), Set.of()));
+
+        assertThat(suggestionService.suggest("spring", 5).getPosts()).isEmpty();
+        assertThat(suggestionService.suggest("tips", 5).getPosts())
+                .extracting(SuggestionDto::getId).containsExactly(olderPostId);
+    }
+
+    @Test
+    @DisplayName("Suggest - Blank prefix returns nothing")
+    void suggest_BlankPrefix_ReturnsEmpty() {
+        SuggestionsResponse result = suggestionService.suggest(" - ", 5);
+
+        assertThat(result.getPosts()).isEmpty();
+        assertThat(result.getTags()).isEmpty();
+        assertThat(result.getCategories()).isEmpty();
+    }
+}
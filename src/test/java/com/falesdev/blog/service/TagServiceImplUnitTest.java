@@ -1,5 +1,6 @@
 package com.falesdev.blog.service;
 
+import com.falesdev.blog.domain.PostStatus;
 import com.falesdev.blog.domain.dto.TagDto;
 import com.falesdev.blog.domain.entity.Post;
 import com.falesdev.blog.domain.entity.Tag;
@@ -65,10 +66,7 @@ public class TagServiceImplUnitTest {
     @Test
     @DisplayName("List all tags - Success")
     void listTags_ShouldReturnAllTags() {
-        List<Tag> tags = List.of(tag1, tag2);
-        when(tagRepository.findAllWithPostCount()).thenReturn(tags);
-        when(tagMapper.toDto(tag1)).thenReturn(tagDto1);
-        when(tagMapper.toDto(tag2)).thenReturn(tagDto2);
+        when(tagRepository.findAllWithPostCount(eq(PostStatus.PUBLISHED))).thenReturn(List.of(tagDto1, tagDto2));
 
         // Act
         List<TagDto> result = tagService.listTags();
@@ -77,8 +75,8 @@ public class TagServiceImplUnitTest {
         assertThat(result)
                 .hasSize(2)
                 .containsExactlyInAnyOrder(tagDto1, tagDto2);
-        verify(tagRepository).findAllWithPostCount();
-        verify(tagMapper, times(2)).toDto(any(Tag.class));
+        verify(tagRepository).findAllWithPostCount(eq(PostStatus.PUBLISHED));
+        verify(tagMapper, never()).toDto(any(Tag.class));
     }
 
     @Test
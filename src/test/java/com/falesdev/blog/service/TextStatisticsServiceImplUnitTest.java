@@ -0,0 +1,101 @@
+package com.falesdev.blog.service;
+
+import com.falesdev.blog.domain.TextStatistics;
+import com.falesdev.blog.service.impl.TextStatisticsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+public class TextStatisticsServiceImplUnitTest {
+
+    private final TextStatisticsServiceImpl textStatisticsService = new TextStatisticsServiceImpl();
+
+    @Test
+    @DisplayName("Count words - Matches regex split on ASCII whitespace")
+    void countWords_MixedWhitespace_MatchesRegexSplit() {
+        String content = "  Hello,\tworld!\n\nThis  is\r\na   test.  ";
+
+        int expected = content.trim().split("\\s+").length;
+
+        assertThat(textStatisticsService.countWords(content)).isEqualTo(expected).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Count words - Unicode spaces separate words")
+    void countWords_UnicodeSpaces_AreSeparators() {
+        assertThat(textStatisticsService.countWords("uno\u00A0dos\u2009tres\u3000cuatro")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Count words - Null and blank content")
+    void countWords_NullOrBlank_ReturnsZero() {
+        assertThat(textStatisticsService.countWords(null)).isZero();
+        assertThat(textStatisticsService.countWords("")).isZero();
+        assertThat(textStatisticsService.countWords(" \n\t ")).isZero();
+    }
+
+    @Test
+    @DisplayName("Reading time - Rounds up per 200 words")
+    void calculateReadingTime_RoundsUp() {
+        assertThat(textStatisticsService.calculateReadingTime("word")).isEqualTo(1);
+        assertThat(textStatisticsService.calculateReadingTime(words(200))).isEqualTo(1);
+        assertThat(textStatisticsService.calculateReadingTime(words(201))).isEqualTo(2);
+        assertThat(textStatisticsService.calculateReadingTime(words(1000))).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Analyze - Short content is returned whole as excerpt")
+    void analyze_ShortContent_ReturnsAllStatistics() {
+        TextStatistics statistics = textStatisticsService.analyze("Hola\n\nmundo   feliz");
+
+        assertThat(statistics.wordCount()).isEqualTo(3);
+        assertThat(statistics.characterCount()).isEqualTo(19);
+        assertThat(statistics.readingTime()).isEqualTo(1);
+        assertThat(statistics.excerpt()).isEqualTo("Hola mundo feliz");
+    }
+
+    @Test
+    @DisplayName("Analyze - Long content excerpt is cut on a word boundary")
+    void analyze_LongContent_TruncatesExcerpt() {
+        String content = words(500);
+
+        TextStatistics statistics = textStatisticsService.analyze(content);
+
+        assertThat(statistics.wordCount()).isEqualTo(500);
+        assertThat(statistics.characterCount()).isEqualTo(content.length());
+        assertThat(statistics.readingTime()).isEqualTo(3);
+        assertThat(statistics.excerpt())
+                .endsWith("...")
+                .hasSizeLessThanOrEqualTo(203)
+                .doesNotContain("  ");
+        assertThat(content).startsWith(statistics.excerpt().replace("...", ""));
+        assertThat(statistics.excerpt().replace("...", "")).endsWith("word");
+    }
+
+    @Test
+    @DisplayName("Analyze - Characters count code points")
+    void analyze_SupplementaryCharacters_CountsCodePoints() {
+        TextStatistics statistics = textStatisticsService.analyze("emoji \uD83D\uDE00");
+
+        assertThat(statistics.characterCount()).isEqualTo(7);
+        assertThat(statistics.wordCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Analyze - Null content")
+    void analyze_Null_ReturnsEmpty() {
+        assertThat(textStatisticsService.analyze(null)).isEqualTo(TextStatistics.EMPTY);
+    }
+
+    private static String words(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "word")
+                .collect(Collectors.joining(" "));
+    }
+}
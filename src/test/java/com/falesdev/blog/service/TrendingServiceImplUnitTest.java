@@ -0,0 +1,169 @@
+package com.falesdev.blog.service;
+
+import com.falesdev.blog.domain.PostStatus;
+import com.falesdev.blog.domain.projection.PostViewCountRow;
+import com.falesdev.blog.event.PostChangedEvent;
+import com.falesdev.blog.event.PostViewsFlushedEvent;
+import com.falesdev.blog.repository.PostRepository;
+import com.falesdev.blog.service.impl.TrendingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class TrendingServiceImplUnitTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private final MutableClock clock = new MutableClock();
+    private TrendingServiceImpl trendingService;
+
+    private final UUID firstPostId = UUID.randomUUID();
+    private final UUID secondPostId = UUID.randomUUID();
+    private final UUID draftPostId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        trendingService = new TrendingServiceImpl(postRepository, clock, 1, 100);
+    }
+
+    @Test
+    @DisplayName("Seed - Older posts weigh less than newer ones with the same views")
+    void initialize_AgesPersistedCounts() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        when(postRepository.findMostViewedByStatus(eq(PostStatus.PUBLISHED), any())).thenReturn(List.of(
+                new PostViewCountRow(firstPostId, 100, now.minusHours(3)),
+                new PostViewCountRow(secondPostId, 100, now.minusMinutes(10))
+        ));
+
+        trendingService.initialize();
+
+        assertThat(trendingService.getTrendingPostIds(10)).containsExactly(secondPostId, firstPostId);
+    }
+
+    @Test
+    @DisplayName("Flushed views - Only published posts enter the ranking")
+    void onViewsFlushed_SkipsUnpublishedPosts() {
+        when(postRepository.findIdsByIdInAndStatus(anyCollection(), eq(PostStatus.PUBLISHED)))
+                .thenReturn(List.of(firstPostId, secondPostId));
+
+        trendingService.onViewsFlushed(new PostViewsFlushedEvent(
+                Map.of(firstPostId, 5L, secondPostId, 9L, draftPostId, 50L)));
+
+        assertThat(trendingService.getTrendingPostIds(10)).containsExactly(secondPostId, firstPostId);
+    }
+
+    @Test
+    @DisplayName("Flushed views - Known posts are not looked up again")
+    void onViewsFlushed_KnownPosts_NoLookup() {
+        when(postRepository.findIdsByIdInAndStatus(anyCollection(), eq(PostStatus.PUBLISHED)))
+                .thenReturn(List.of(firstPostId));
+        trendingService.onViewsFlushed(new PostViewsFlushedEvent(Map.of(firstPostId, 1L)));
+        clearInvocations(postRepository);
+
+        trendingService.onViewsFlushed(new PostViewsFlushedEvent(Map.of(firstPostId, 1L)));
+
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("Decay - Recent views outrank larger but older ones")
+    void onViewsFlushed_RecentViewsOutrankOlder() {
+        when(postRepository.findIdsByIdInAndStatus(anyCollection(), eq(PostStatus.PUBLISHED)))
+                .thenReturn(List.of(firstPostId), List.of(secondPostId));
+
+        trendingService.onViewsFlushed(new PostViewsFlushedEvent(Map.of(firstPostId, 100L)));
+        clock.advance(Duration.ofHours(2));
+        trendingService.onViewsFlushed(new PostViewsFlushedEvent(Map.of(secondPostId, 30L)));
+
+        // Dos vidas medias: 100 visitas valen 25 frente a 30 recientes
+        assertThat(trendingService.getTrendingPostIds(10)).containsExactly(secondPostId, firstPostId);
+
+        trendingService.rebase();
+        assertThat(trendingService.getTrendingPostIds(10)).containsExactly(secondPostId, firstPostId);
+    }
+
+    @Test
+    @DisplayName("Rebase - Posts whose score decayed away are dropped")
+    void rebase_PrunesDecayedPosts() {
+        when(postRepository.findIdsByIdInAndStatus(anyCollection(), eq(PostStatus.PUBLISHED)))
+                .thenReturn(List.of(firstPostId));
+        trendingService.onViewsFlushed(new PostViewsFlushedEvent(Map.of(firstPostId, 1L)));
+
+        clock.advance(Duration.ofHours(10));
+        trendingService.rebase();
+
+        assertThat(trendingService.getTrendingPostIds(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Unpublished post leaves the ranking")
+    void onPostChanged_Unpublished_RemovesPost() {
+        when(postRepository.findIdsByIdInAndStatus(anyCollection(), eq(PostStatus.PUBLISHED)))
+                .thenReturn(List.of(firstPostId, secondPostId));
+        trendingService.onViewsFlushed(new PostViewsFlushedEvent(Map.of(firstPostId, 5L, secondPostId, 9L)));
+
+        trendingService.onPostChanged(new PostChangedEvent(secondPostId, PostChangedEvent.ChangeType.UPDATED,
+                PostStatus.PUBLISHED, PostStatus.DRAFT, "Title", "Content", Set.of(), Set.of()));
+
+        assertThat(trendingService.getTrendingPostIds(10)).containsExactly(firstPostId);
+    }
+
+    @Test
+    @DisplayName("Limit is applied to the precomputed ranking")
+    void getTrendingPostIds_AppliesLimit() {
+        when(postRepository.findIdsByIdInAndStatus(anyCollection(), eq(PostStatus.PUBLISHED)))
+                .thenReturn(List.of(firstPostId, secondPostId));
+        trendingService.onViewsFlushed(new PostViewsFlushedEvent(Map.of(firstPostId, 5L, secondPostId, 9L)));
+
+        assertThat(trendingService.getTrendingPostIds(1)).containsExactly(secondPostId);
+        assertThat(trendingService.getTrendingPostIds(0)).containsExactly(secondPostId);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -6,7 +6,10 @@ import com.falesdev.blog.domain.dto.request.UpdateUserRequestDto;
 import com.falesdev.blog.domain.entity.Role;
 import com.falesdev.blog.domain.entity.User;
 import com.falesdev.blog.mapper.UserMapper;
+import com.falesdev.blog.repository.RefreshTokenRepository;
 import com.falesdev.blog.repository.UserRepository;
+import com.falesdev.blog.security.auth.PrincipalCache;
+import com.falesdev.blog.security.auth.TokenRevocationRegistry;
 import com.falesdev.blog.service.impl.UserServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +45,15 @@ public class UserServiceImplUnitTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -184,6 +196,8 @@ public class UserServiceImplUnitTest {
                 eq(user)
         );
         verify(userRepository).save(eq(user));
+        verify(principalCache).invalidate(eq("fabricio-1998-xd@hotmail.com"));
+        verify(tokenRevocationRegistry).revokeIssuedBefore(eq("fabricio-1998-xd@hotmail.com"), any());
     }
 
     @Test
@@ -207,6 +221,8 @@ public class UserServiceImplUnitTest {
         userService.deleteUser(userId);
 
         verify(userRepository, times(1)).delete(eq(user));
+        verify(principalCache).invalidate(eq(user.getEmail()));
+        verify(tokenRevocationRegistry).revokeIssuedBefore(eq(user.getEmail()), any());
     }
 
     @Test
@@ -221,4 +237,16 @@ public class UserServiceImplUnitTest {
         verify(userRepository, times(1)).findById(eq(invalidId));
         verify(userRepository, never()).delete(any());
     }
+
+    @Test
+    @DisplayName("Revoke user tokens - Refresh chain and issued access tokens invalidated")
+    void revokeTokens_ValidId_RevokesEverything() {
+        when(userRepository.findById(eq(userId))).thenReturn(Optional.of(user));
+
+        userService.revokeTokens(userId);
+
+        verify(refreshTokenRepository).revokeByUserId(eq(userId));
+        verify(principalCache).invalidate(eq(user.getEmail()));
+        verify(tokenRevocationRegistry).revokeIssuedBefore(eq(user.getEmail()), any());
+    }
 }